@@ -0,0 +1,69 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.balance.BalanceReport;
+import com.narxoz.rpg.balance.BalanceRunner;
+import com.narxoz.rpg.balance.Preset;
+import com.narxoz.rpg.combat.CombatSimulator;
+import com.narxoz.rpg.combat.Party;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.IceComponentFactory;
+import com.narxoz.rpg.factory.ShadowComponentFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Scaling of the balance runner with thread count, plus a determinism
+ * check: every thread count must produce exactly the same reports.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.BalanceBenchmark [trials]
+ */
+public class BalanceBenchmark {
+
+    public static void main(String[] args) {
+        int trials = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        List<Preset> presets = Arrays.asList(Preset.values());
+        List<EnemyComponentFactory> factories = List.of(
+                new FireComponentFactory(), new IceComponentFactory(), new ShadowComponentFactory());
+        List<Party> parties = List.of(
+                new Party("Trio")
+                    .addHero("Warrior", 1200, 90, 40, 25)
+                    .addHero("Mage", 700, 160, 10, 30)
+                    .addHero("Archer", 850, 120, 20, 45),
+                new Party("Raid")
+                    .addHero("Tank", 4000, 120, 90, 20)
+                    .addHero("Healer", 2500, 80, 30, 35)
+                    .addHero("Rogue", 2200, 260, 25, 60)
+                    .addHero("Wizard", 2000, 320, 15, 40));
+
+        // Beyond the core count only the determinism check is meaningful
+        int maxThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        List<BalanceReport> baseline = null;
+        double singleThreadSeconds = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            BalanceRunner runner = new BalanceRunner(trials, 42L, pool, CombatSimulator.DEFAULT_MAX_ROUNDS);
+            runner.run(presets, factories, parties); // warmup
+            long start = System.nanoTime();
+            List<BalanceReport> reports = runner.run(presets, factories, parties);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            pool.shutdown();
+
+            if (baseline == null) {
+                baseline = reports;
+                singleThreadSeconds = seconds;
+            }
+            boolean identical = reports.toString().equals(baseline.toString());
+            long fights = (long) trials * reports.size();
+            System.out.printf("%2d threads: %6.2f s  %,12.0f fights/s  speedup x%.2f  identical to 1 thread: %s%n",
+                    threads, seconds, fights / seconds, singleThreadSeconds / seconds, identical);
+        }
+
+        System.out.println();
+        for (BalanceReport report : baseline) {
+            System.out.println(report);
+        }
+    }
+}
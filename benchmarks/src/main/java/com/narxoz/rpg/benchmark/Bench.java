@@ -0,0 +1,101 @@
+package com.narxoz.rpg.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Minimal benchmark harness shared by the *Benchmark mains in this package.
+ *
+ * Runs a body for a few warmup rounds (to let the JIT settle), then for the
+ * measured rounds, and prints throughput and average time per operation.
+ * Results that the body wants to keep alive go into {@link #sink} so the
+ * JIT cannot eliminate the work.
+ *
+ * profile() additionally reports bytes allocated per operation, allocation
+ * rate, and collections during the measured rounds.
+ *
+ * For quick checks only; parameterized benchmarks that need JMH's rigor
+ * (forks, blackholes, -prof gc) are JMH classes, see CreationPipelineBenchmark.
+ */
+final class Bench {
+
+    /** Results are written here so the JIT cannot treat them as dead code. */
+    static volatile Object sink;
+
+    private Bench() {
+    }
+
+    /**
+     * @param label Name printed next to the result
+     * @param warmupRounds Rounds run before measuring
+     * @param rounds Measured rounds
+     * @param opsPerRound How many logical operations one call of body performs
+     * @param body The work to measure
+     * @return Measured throughput in operations per second
+     */
+    static double measure(String label, int warmupRounds, int rounds, long opsPerRound, Runnable body) {
+        for (int i = 0; i < warmupRounds; i++) {
+            body.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            body.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long ops = opsPerRound * rounds;
+        double opsPerSecond = ops * 1e9 / elapsed;
+        System.out.printf("%-45s %,15.0f ops/s %,12.1f ns/op%n", label, opsPerSecond, (double) elapsed / ops);
+        return opsPerSecond;
+    }
+
+    /**
+     * Like measure(), plus allocation per operation (measured on the calling
+     * thread, so the body must not hand work to other threads), allocation
+     * rate and GC count over the measured rounds.
+     *
+     * @return Measured throughput in operations per second
+     */
+    static double profile(String label, int warmupRounds, int rounds, long opsPerRound, Runnable body) {
+        for (int i = 0; i < warmupRounds; i++) {
+            body.run();
+        }
+        long collections = gcCount();
+        long allocated = threadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            body.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        allocated = threadAllocatedBytes() - allocated;
+        collections = gcCount() - collections;
+        long ops = opsPerRound * rounds;
+        double opsPerSecond = ops * 1e9 / elapsed;
+        System.out.printf("%-45s %,15.0f ops/s %,12.1f ns/op %,10.1f B/op %,9.1f MB/s %,5d gc%n",
+                label, opsPerSecond, (double) elapsed / ops, (double) allocated / ops,
+                allocated * 1e9 / elapsed / (1 << 20), collections);
+        return opsPerSecond;
+    }
+
+    /**
+     * @return Collections so far, summed over all collectors
+     */
+    static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * @return Bytes allocated so far by the current thread, or -1 if the JVM
+     *         cannot tell (HotSpot can)
+     */
+    static long threadAllocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
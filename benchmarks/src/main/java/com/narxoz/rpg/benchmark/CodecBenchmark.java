@@ -0,0 +1,75 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyDirector;
+import com.narxoz.rpg.codec.EnemyCodec;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Skeleton;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.IceComponentFactory;
+import com.narxoz.rpg.factory.ShadowComponentFactory;
+import com.narxoz.rpg.render.TextEnemyRenderer;
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * EnemyCodec: bytes per enemy, encode and decode throughput, and a
+ * round-trip check (decoded enemies must render exactly like the originals).
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.CodecBenchmark
+ */
+public class CodecBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    public static void main(String[] args) throws IOException {
+        Skeleton skeleton = new Skeleton("Frost Skeleton");
+        skeleton.addAbility(AbilityCatalog.FROST_BREATH);
+        skeleton.addAbility(AbilityCatalog.ICE_SHIELD);
+        skeleton.setLootTable(new IceComponentFactory().createLootTable());
+
+        Enemy[] samples = {
+                new EnemyDirector(new BasicEnemyBuilder()).createMinion(new FireComponentFactory()),
+                skeleton,
+                new EnemyDirector(new BossEnemyBuilder()).createRaidBoss(new ShadowComponentFactory())
+        };
+
+        EnemyCodec codec = new EnemyCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 22);
+        TextEnemyRenderer renderer = new TextEnemyRenderer();
+        for (Enemy enemy : samples) {
+            buffer.clear();
+            codec.encode(enemy, buffer);
+            int size = buffer.position();
+            buffer.flip();
+            Enemy decoded = codec.decode(buffer);
+            StringBuilder before = new StringBuilder();
+            StringBuilder after = new StringBuilder();
+            renderer.render(enemy, before);
+            renderer.render(decoded, after);
+            if (!before.toString().equals(after.toString())) {
+                throw new IllegalStateException("Round trip changed " + enemy.getName() + "!");
+            }
+            String label = enemy.getClass().getSimpleName() + " '" + enemy.getName() + "'";
+            System.out.printf("%-45s %,12d B/enemy (round trip OK)%n", label, size);
+
+            Bench.measure("  encode", 20, 50, BATCH, () -> {
+                buffer.clear();
+                for (int i = 0; i < BATCH; i++) {
+                    codec.encode(enemy, buffer);
+                }
+            });
+            Bench.measure("  decode", 20, 50, BATCH, () -> {
+                buffer.flip();
+                buffer.position(0);
+                for (int i = 0; i < BATCH; i++) {
+                    Bench.sink = codec.decode(buffer);
+                }
+            });
+        }
+    }
+}
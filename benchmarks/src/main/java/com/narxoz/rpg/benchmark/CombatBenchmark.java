@@ -0,0 +1,56 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyDirector;
+import com.narxoz.rpg.combat.CombatSimulator;
+import com.narxoz.rpg.combat.Encounter;
+import com.narxoz.rpg.combat.FightResult;
+import com.narxoz.rpg.combat.Party;
+import com.narxoz.rpg.combat.SplitMix64;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.IceComponentFactory;
+
+/**
+ * Single-core combat throughput (fights per second) and allocation per fight.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.CombatBenchmark
+ */
+public class CombatBenchmark {
+
+    private static final int FIGHTS_PER_ROUND = 100_000;
+
+    public static void main(String[] args) {
+        Party party = new Party("Trio")
+            .addHero("Warrior", 1200, 90, 40, 25)
+            .addHero("Mage", 700, 160, 10, 30)
+            .addHero("Archer", 850, 120, 20, 45);
+
+        Enemy minion = new EnemyDirector(new BasicEnemyBuilder()).createElite(new FireComponentFactory());
+        Enemy boss = new EnemyDirector(new BossEnemyBuilder()).createMiniBoss(new IceComponentFactory());
+        Encounter encounter = Encounter.of(party, minion, minion.clone(), minion.clone(), boss);
+
+        CombatSimulator simulator = new CombatSimulator();
+        FightResult result = new FightResult();
+        long[] wins = new long[1];
+        long[] fightIndex = new long[1];
+
+        Bench.measure("CombatSimulator.simulate (1 core)", 20, 50, FIGHTS_PER_ROUND, () -> {
+            for (int i = 0; i < FIGHTS_PER_ROUND; i++) {
+                simulator.simulate(encounter, SplitMix64.seedFor(42, fightIndex[0]++), result);
+                if (result.partyWon()) {
+                    wins[0]++;
+                }
+            }
+        });
+
+        long before = Bench.threadAllocatedBytes();
+        for (int i = 0; i < FIGHTS_PER_ROUND; i++) {
+            simulator.simulate(encounter, SplitMix64.seedFor(7, i), result);
+        }
+        long allocated = Bench.threadAllocatedBytes() - before;
+        System.out.printf("Allocated: %.3f bytes/fight%n", (double) allocated / FIGHTS_PER_ROUND);
+        System.out.printf("Party win rate: %.1f%%  (last: %s)%n", 100.0 * wins[0] / fightIndex[0], result);
+    }
+}
@@ -0,0 +1,262 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.balance.Preset;
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyBlueprint;
+import com.narxoz.rpg.builder.EnemyBuilder;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Skeleton;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the whole creation pipeline, one operation at a time:
+ * builders and compiled blueprints, every clone(), component factories,
+ * director presets and registry spawns.
+ *
+ * Each benchmark reports throughput and average time; run with the GC
+ * profiler for bytes allocated per operation, allocation rate and GCs.
+ *
+ * Parameters (JMH runs every combination a benchmark's state uses):
+ *   abilities = 0, 4, 16           abilities on the built / cloned enemies
+ *   templates = 1, 100, 10000      templates registered, spawned round-robin
+ *
+ * Run: java -jar benchmarks/target/benchmarks.jar CreationPipeline -prof gc
+ *      [-p abilities=4] [-p templates=10000]
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreationPipelineBenchmark {
+
+    // ============================================================
+    // STATE
+    // ============================================================
+
+    /**
+     * Builders, blueprints and built enemies with a given ability count.
+     */
+    @State(Scope.Thread)
+    public static class Enemies {
+
+        @Param({"0", "4", "16"})
+        public int abilities;
+
+        EnemyBuilder basic;
+        EnemyBuilder boss;
+        EnemyBlueprint basicBlueprint;
+        EnemyBlueprint bossBlueprint;
+        Enemy goblin;
+        Enemy skeleton;
+        Enemy dragon;
+
+        @Setup
+        public void setUp() {
+            List<Ability> abilityList = abilities(abilities);
+            basic = basicBuilder(abilityList);
+            boss = bossBuilder(abilityList);
+            basicBlueprint = basic.compile();
+            bossBlueprint = boss.compile();
+            goblin = basic.build();
+            dragon = boss.build();
+            Skeleton bones = new Skeleton("Skeleton");
+            abilityList.forEach(bones::addAbility);
+            skeleton = bones;
+        }
+    }
+
+    /**
+     * A registry of goblin and dragon templates, spawned round-robin.
+     */
+    @State(Scope.Thread)
+    public static class Templates {
+
+        @Param({"0", "4", "16"})
+        public int abilities;
+
+        @Param({"1", "100", "10000"})
+        public int templates;
+
+        EnemyRegistry registry;
+        String[] keys;
+        int next;
+
+        @Setup
+        public void setUp() {
+            List<Ability> abilityList = abilities(abilities);
+            Enemy goblin = basicBuilder(abilityList).build();
+            Enemy dragon = bossBuilder(abilityList).build();
+            registry = new EnemyRegistry();
+            keys = new String[templates];
+            for (int i = 0; i < templates; i++) {
+                keys[i] = "template_" + i;
+                registry.registerTemplate(keys[i], i % 2 == 0 ? goblin : dragon);
+            }
+        }
+
+        String nextKey() {
+            int i = next;
+            next = i + 1 == templates ? 0 : i + 1;
+            return keys[i];
+        }
+    }
+
+    /**
+     * Fire components.
+     */
+    @State(Scope.Thread)
+    public static class Components {
+
+        EnemyComponentFactory fire;
+        LootTable loot;
+        Ability ability;
+
+        @Setup
+        public void setUp() {
+            fire = new FireComponentFactory();
+            loot = fire.createLootTable();
+            ability = AbilityCatalog.FLAME_BREATH;
+        }
+    }
+
+    /**
+     * One director preset, built with fire components.
+     */
+    @State(Scope.Thread)
+    public static class Presets {
+
+        @Param
+        public Preset preset;
+
+        EnemyComponentFactory fire;
+
+        @Setup
+        public void setUp() {
+            fire = new FireComponentFactory();
+        }
+    }
+
+    // ============================================================
+    // BUILDERS AND BLUEPRINTS
+    // ============================================================
+
+    @Benchmark
+    public Enemy basicBuild(Enemies state) {
+        return state.basic.build();
+    }
+
+    @Benchmark
+    public Enemy bossBuild(Enemies state) {
+        return state.boss.build();
+    }
+
+    @Benchmark
+    public Enemy basicBlueprintCreate(Enemies state) {
+        return state.basicBlueprint.create();
+    }
+
+    @Benchmark
+    public Enemy bossBlueprintCreate(Enemies state) {
+        return state.bossBlueprint.create();
+    }
+
+    // ============================================================
+    // CLONES
+    // ============================================================
+
+    @Benchmark
+    public Enemy goblinClone(Enemies state) {
+        return state.goblin.clone();
+    }
+
+    @Benchmark
+    public Enemy skeletonClone(Enemies state) {
+        return state.skeleton.clone();
+    }
+
+    @Benchmark
+    public Enemy dragonClone(Enemies state) {
+        return state.dragon.clone();
+    }
+
+    @Benchmark
+    public Ability abilityClone(Components state) {
+        return state.ability.clone();
+    }
+
+    @Benchmark
+    public LootTable lootTableClone(Components state) {
+        return state.loot.clone();
+    }
+
+    // ============================================================
+    // FACTORIES, DIRECTOR, REGISTRY
+    // ============================================================
+
+    @Benchmark
+    public List<Ability> createAbilities(Components state) {
+        return state.fire.createAbilities();
+    }
+
+    @Benchmark
+    public LootTable createLootTable(Components state) {
+        return state.fire.createLootTable();
+    }
+
+    @Benchmark
+    public Enemy directorPreset(Presets state) {
+        return state.preset.create(state.fire);
+    }
+
+    @Benchmark
+    public Enemy createFromTemplate(Templates state) {
+        return state.registry.createFromTemplate(state.nextKey());
+    }
+
+    // ============================================================
+    // HELPERS
+    // ============================================================
+
+    private static List<Ability> abilities(int count) {
+        List<Ability> abilities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            abilities.add(AbilityCatalog.byId(i % AbilityCatalog.size()));
+        }
+        return abilities;
+    }
+
+    private static EnemyBuilder basicBuilder(List<Ability> abilities) {
+        return new BasicEnemyBuilder()
+                .setName("Goblin").setHealth(100).setDamage(15).setDefense(5).setSpeed(35)
+                .setAbilities(abilities).setLootTable(new FireComponentFactory().createLootTable());
+    }
+
+    private static EnemyBuilder bossBuilder(List<Ability> abilities) {
+        return new BossEnemyBuilder()
+                .setName("Dragon").setHealth(50_000).setDamage(500).setDefense(200).setSpeed(50)
+                .addPhase(1, 50_000).addPhase(2, 30_000).addPhase(3, 15_000)
+                .setAbilities(abilities).setLootTable(new FireComponentFactory().createLootTable());
+    }
+}
@@ -0,0 +1,74 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.combat.Party;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+import com.narxoz.rpg.runtime.EncounterOutcome;
+import com.narxoz.rpg.runtime.EncounterRuntime;
+import com.narxoz.rpg.runtime.EncounterSpec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Load test for EncounterRuntime: N concurrent encounters, each with two
+ * parties fighting goblin packs spawned from a shared registry, one round
+ * per 20 ms tick. Reports outcome counts and tick-latency percentiles.
+ *
+ * Run (Java 21+ for virtual threads):
+ *   java -cp out com.narxoz.rpg.benchmark.EncounterLoadTest [encounters]
+ * Without virtual threads the default drops to 2,000 encounters.
+ */
+public class EncounterLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Goblin goblin = new Goblin("Goblin");
+        goblin.addAbility(AbilityCatalog.SHADOW_STRIKE);
+        EnemyRegistry registry = new EnemyRegistry();
+        registry.registerTemplate("goblin", goblin);
+
+        List<Party> parties = List.of(
+                new Party("Vanguard").addHero("Knight", 900, 45, 20, 20).addHero("Cleric", 600, 25, 10, 25),
+                new Party("Rearguard").addHero("Ranger", 700, 40, 8, 40).addHero("Bard", 500, 20, 5, 30));
+
+        try (EncounterRuntime runtime = new EncounterRuntime(100_000, Duration.ofSeconds(60), Duration.ofMillis(20))) {
+            int encounters = args.length > 0 ? Integer.parseInt(args[0])
+                    : runtime.usesVirtualThreads() ? 100_000 : 2_000;
+            System.out.println("Virtual threads: " + runtime.usesVirtualThreads() + ", encounters: " + encounters);
+
+            long start = System.nanoTime();
+            List<CompletableFuture<EncounterOutcome>> outcomes = new ArrayList<>(encounters);
+            int peak = 0;
+            for (int i = 0; i < encounters; i++) {
+                outcomes.add(runtime.submit(new EncounterSpec("camp-" + i, parties,
+                        () -> registry.createFromTemplate("goblin", 4), i)));
+                peak = Math.max(peak, runtime.activeEncounters());
+            }
+
+            int completed = 0;
+            int timedOut = 0;
+            int failed = 0;
+            for (CompletableFuture<EncounterOutcome> outcome : outcomes) {
+                switch (outcome.get().getStatus()) {
+                    case COMPLETED:
+                        completed++;
+                        break;
+                    case TIMED_OUT:
+                        timedOut++;
+                        break;
+                    default:
+                        failed++;
+                        break;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("Done in %.1f s, peak concurrent: %,d%n", seconds, peak);
+            System.out.printf("Completed %,d, timed out %,d, failed %,d%n", completed, timedOut, failed);
+            System.out.println("Tick latency: " + runtime.tickLatency());
+        }
+    }
+}
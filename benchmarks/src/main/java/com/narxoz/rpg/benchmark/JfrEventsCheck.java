@@ -0,0 +1,127 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyDirector;
+import com.narxoz.rpg.combat.CombatSimulator;
+import com.narxoz.rpg.combat.Encounter;
+import com.narxoz.rpg.combat.FightResult;
+import com.narxoz.rpg.combat.Party;
+import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.Recording;
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Records the enemy pipeline and a few fights with every com.narxoz.rpg
+ * JFR event enabled at threshold 0, then reads the recording back and
+ * checks each event type showed up with its fields filled in.
+ *
+ * The same events in a production recording (thresholds from the event
+ * annotations unless a .jfc overrides them):
+ *   java -XX:StartFlightRecording=filename=rpg.jfr ...
+ *   jfr print --events com.narxoz.rpg.EnemyClone rpg.jfr
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.JfrEventsCheck
+ */
+public class JfrEventsCheck {
+
+    private static final String[] EVENTS = {
+            "com.narxoz.rpg.EnemyBuild", "com.narxoz.rpg.EnemyClone", "com.narxoz.rpg.RegistryMiss",
+            "com.narxoz.rpg.BossPhase", "com.narxoz.rpg.CombatTick"};
+
+    public static void main(String[] args) throws Exception {
+        Path file = Files.createTempFile("rpg", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                for (String event : EVENTS) {
+                    recording.enable(event).withThreshold(Duration.ZERO);
+                }
+                recording.start();
+                runPipeline();
+                recording.stop();
+                recording.dump(file);
+            }
+
+            Map<String, Integer> counts = new TreeMap<>();
+            Map<String, RecordedEvent> samples = new TreeMap<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                String name = event.getEventType().getName();
+                counts.merge(name, 1, Integer::sum);
+                samples.putIfAbsent(name, event);
+            }
+            for (String event : EVENTS) {
+                if (!counts.containsKey(event)) {
+                    throw new IllegalStateException("No " + event + " events recorded!");
+                }
+                System.out.printf("%-30s %,6d events, e.g. %s%n", event, counts.get(event), describe(samples.get(event)));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * The event's own fields, one line.
+     */
+    private static String describe(RecordedEvent event) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("duration=").append(event.getDuration().toNanos()).append("ns");
+        for (ValueDescriptor field : event.getEventType().getFields()) {
+            String name = field.getName();
+            if (name.equals("startTime") || name.equals("duration") || name.equals("eventThread")
+                    || name.equals("stackTrace")) {
+                continue;
+            }
+            Object value = event.getValue(name);
+            if (value instanceof RecordedClass) {
+                value = ((RecordedClass) value).getName();
+            }
+            sb.append(", ").append(name).append('=').append(value);
+        }
+        return sb.toString();
+    }
+
+    private static void runPipeline() {
+        FireComponentFactory fire = new FireComponentFactory();
+        EnemyRegistry registry = new EnemyRegistry();
+        Enemy minion = new EnemyDirector(new BasicEnemyBuilder()).createMinion(fire);
+        Enemy boss = new EnemyDirector(new BossEnemyBuilder()).createRaidBoss(fire);
+        registry.registerTemplate("minion", minion);
+        registry.registerTemplate("raid_boss", boss);
+        for (int i = 0; i < 100; i++) {
+            Bench.sink = registry.createFromTemplate(i % 2 == 0 ? "minion" : "raid_boss");
+        }
+        Bench.sink = registry.createFromTemplate("minion", 1000);
+        try {
+            registry.createFromTemplate("no_such_key");
+        } catch (IllegalArgumentException expected) {
+            // recorded as a RegistryMiss
+        }
+
+        DragonBoss dragon = (DragonBoss) registry.createFromTemplate("raid_boss");
+        dragon.takeDamage(6000);
+        dragon.takeDamage(2000);
+
+        Party party = new Party("Trio")
+                .addHero("Warrior", 1200, 90, 40, 25)
+                .addHero("Mage", 700, 160, 10, 30);
+        CombatSimulator simulator = new CombatSimulator();
+        FightResult result = new FightResult();
+        Encounter encounter = Encounter.of(party, minion, minion.clone());
+        for (int i = 0; i < 10; i++) {
+            simulator.simulate(encounter, i, result);
+        }
+    }
+}
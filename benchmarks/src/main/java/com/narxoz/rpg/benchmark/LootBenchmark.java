@@ -0,0 +1,94 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.combat.SplitMix64;
+import com.narxoz.rpg.loot.FireLootTable;
+import com.narxoz.rpg.loot.Inventory;
+import com.narxoz.rpg.loot.LootRoll;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loot memory and drop cost, string lists versus ItemDictionary ids.
+ *
+ * "before" replays the old representation (every table owns an
+ * ArrayList<String>, clone() copies it, drops are counted in a
+ * Map<String, Long>); "after" uses the id-based tables, LootRoll and
+ * Inventory.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.LootBenchmark
+ */
+public class LootBenchmark {
+
+    private static final int N = 100_000;
+
+    public static void main(String[] args) {
+        LootTable table = new FireLootTable();
+        StringListLootTable legacy = new StringListLootTable();
+
+        System.out.println("--- bytes per cloned loot table ---");
+        System.out.printf("%-45s %,12.1f B%n", "before: ArrayList<String> copy", bytesPer(() -> Bench.sink = legacy.copy()));
+        System.out.printf("%-45s %,12.1f B%n", "after: shared int[] ids", bytesPer(() -> Bench.sink = table.clone()));
+
+        System.out.println("--- cost per drop ---");
+        Map<String, Long> counts = new HashMap<>();
+        Bench.measure("before: getItems() into Map<String, Long>", 20, 20, N, () -> {
+            for (int i = 0; i < N; i++) {
+                for (String item : legacy.getItems()) {
+                    counts.merge(item, 1L, Long::sum);
+                }
+            }
+        });
+
+        SplitMix64 random = new SplitMix64(42);
+        LootRoll roll = new LootRoll();
+        Inventory inventory = new Inventory();
+        Bench.measure("after: roll() into Inventory", 20, 20, N, () -> {
+            for (int i = 0; i < N; i++) {
+                inventory.add(table.roll(random, roll));
+            }
+        });
+        System.out.printf("%-45s %,12.1f B%n", "after: bytes per roll() + add()",
+                bytesPer(() -> inventory.add(table.roll(random, roll))));
+        Bench.sink = counts;
+        Bench.sink = inventory;
+    }
+
+    private static double bytesPer(Runnable body) {
+        for (int i = 0; i < N; i++) {
+            body.run();
+        }
+        long before = Bench.threadAllocatedBytes();
+        for (int i = 0; i < N; i++) {
+            body.run();
+        }
+        return (double) (Bench.threadAllocatedBytes() - before) / N;
+    }
+
+    /**
+     * The pre-dictionary loot table layout, kept here as the baseline.
+     */
+    private static final class StringListLootTable {
+
+        private final List<String> items;
+
+        StringListLootTable() {
+            this(List.of("Fire Gem", "Dragon Scale", "Flame Rune"));
+        }
+
+        private StringListLootTable(List<String> items) {
+            this.items = new ArrayList<>(items);
+        }
+
+        List<String> getItems() {
+            return new ArrayList<>(items);
+        }
+
+        StringListLootTable copy() {
+            return new StringListLootTable(items);
+        }
+    }
+}
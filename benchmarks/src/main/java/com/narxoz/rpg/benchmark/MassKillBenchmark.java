@@ -0,0 +1,86 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.combat.SplitMix64;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.IceComponentFactory;
+import com.narxoz.rpg.loot.Inventory;
+import com.narxoz.rpg.loot.ItemDictionary;
+import com.narxoz.rpg.loot.KillList;
+import com.narxoz.rpg.loot.LootPipeline;
+import com.narxoz.rpg.loot.LootRoll;
+
+import java.util.List;
+
+/**
+ * AoE wipe loot: rolling kill by kill through getLootTable() versus the
+ * batched LootPipeline, and a check that both give the same totals.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.MassKillBenchmark
+ */
+public class MassKillBenchmark {
+
+    private static final int RECIPIENTS = 4;
+    private static final long SEED = 7L;
+
+    public static void main(String[] args) {
+        Goblin fire = new Goblin("Fire Goblin");
+        fire.setLootTable(new FireComponentFactory().createLootTable());
+        Goblin ice = new Goblin("Ice Goblin");
+        ice.setLootTable(new IceComponentFactory().createLootTable());
+
+        LootPipeline pipeline = new LootPipeline();
+        for (int wave : new int[] {3_000, 200_000}) {
+            Enemy[] dead = new Enemy[wave];
+            for (int i = 0; i < wave; i++) {
+                dead[i] = (i % 3 == 0 ? ice : fire).clone();
+            }
+            KillList kills = new KillList(wave);
+            for (int i = 0; i < wave; i++) {
+                kills.add(dead[i].getLootTable(), i % RECIPIENTS);
+            }
+
+            List<Inventory> batch = pipeline.process(kills, RECIPIENTS, SEED);
+            Inventory[] perKill = perKill(dead);
+            for (int r = 0; r < RECIPIENTS; r++) {
+                if (!sameTotals(batch.get(r), perKill[r])) {
+                    throw new IllegalStateException("Batch and per-kill loot differ for recipient " + r + "!");
+                }
+            }
+            System.out.println("--- wave of " + wave + " (totals match) ---");
+
+            int rounds = Math.max(10, 2_000_000 / wave);
+            Bench.measure("per kill: getLootTable().roll()", rounds, rounds, wave,
+                    () -> Bench.sink = perKill(dead));
+            Bench.measure("batch: LootPipeline.process()", rounds, rounds, wave,
+                    () -> Bench.sink = pipeline.process(kills, RECIPIENTS, SEED));
+        }
+    }
+
+    private static Inventory[] perKill(Enemy[] dead) {
+        Inventory[] summaries = new Inventory[RECIPIENTS];
+        for (int r = 0; r < RECIPIENTS; r++) {
+            summaries[r] = new Inventory();
+        }
+        SplitMix64 random = new SplitMix64(0);
+        LootRoll roll = new LootRoll();
+        for (int i = 0; i < dead.length; i++) {
+            random.setSeed(SplitMix64.seedFor(SEED, i));
+            summaries[i % RECIPIENTS].add(dead[i].getLootTable().roll(random, roll));
+        }
+        return summaries;
+    }
+
+    private static boolean sameTotals(Inventory a, Inventory b) {
+        if (a.getGold() != b.getGold() || a.getExperience() != b.getExperience()) {
+            return false;
+        }
+        for (int id = 0; id < ItemDictionary.size(); id++) {
+            if (a.count(id) != b.count(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
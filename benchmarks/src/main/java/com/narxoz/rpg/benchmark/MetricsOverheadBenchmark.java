@@ -0,0 +1,104 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyBuilder;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.OperationStats;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+/**
+ * Cost of the hot-path metrics: the same spawn / clone / build loops with
+ * metrics off and on. Metrics.ENABLED is fixed at JVM start, so each mode
+ * runs in its own JVM. The metrics-on run then reads its numbers back
+ * through the platform MBean server, the way a JMX console would.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.MetricsOverheadBenchmark
+ */
+public class MetricsOverheadBenchmark {
+
+    private static final int OPS = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1 && args[0].equals("child")) {
+            measure();
+            return;
+        }
+        runChild(false);
+        runChild(true);
+    }
+
+    private static void measure() throws JMException {
+        System.out.println("--- rpg.metrics=" + Metrics.ENABLED + " ---");
+        FireComponentFactory fire = new FireComponentFactory();
+        EnemyBuilder basic = new BasicEnemyBuilder().setName("Goblin").setHealth(100)
+                .setAbilities(fire.createAbilities()).setLootTable(fire.createLootTable());
+        EnemyBuilder boss = new BossEnemyBuilder().setName("Dragon").setHealth(5000)
+                .addPhase(1, 5000).addPhase(2, 2500)
+                .setAbilities(fire.createAbilities()).setLootTable(fire.createLootTable());
+        EnemyRegistry registry = new EnemyRegistry();
+        registry.registerTemplate("goblin", basic.build());
+        registry.registerTemplate("dragon", boss.build());
+        Enemy goblin = basic.build();
+
+        Enemy[] results = new Enemy[OPS];
+        Bench.measure("createFromTemplate(\"goblin\")", 20, 50, OPS, () -> {
+            for (int i = 0; i < OPS; i++) {
+                results[i] = registry.createFromTemplate("goblin");
+            }
+            Bench.sink = results;
+        });
+        Bench.measure("Goblin.clone()", 20, 50, OPS, () -> {
+            for (int i = 0; i < OPS; i++) {
+                results[i] = goblin.clone();
+            }
+            Bench.sink = results;
+        });
+        Bench.measure("BossEnemyBuilder.build()", 20, 20, OPS, () -> {
+            for (int i = 0; i < OPS; i++) {
+                results[i] = boss.build();
+            }
+            Bench.sink = results;
+        });
+
+        if (Metrics.ENABLED) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (String group : new String[] {"Templates", "Clones", "Builds"}) {
+                TabularData stats = (TabularData) server.getAttribute(Metrics.objectName(group), "Stats");
+                for (Object row : stats.values()) {
+                    CompositeData entry = (CompositeData) ((CompositeData) row).get("value");
+                    System.out.printf("JMX %-10s %-20s count %,12d  p50 %,6d ns  p99 %,6d ns  p99.9 %,7d ns%n",
+                            group, entry.get("name"), entry.get("count"), entry.get("p50Nanos"),
+                            entry.get("p99Nanos"), entry.get("p999Nanos"));
+                }
+            }
+            Map<String, OperationStats> templates = Metrics.TEMPLATES.getStats();
+            if (templates.get("goblin").getCount() != 70L * OPS) {
+                throw new IllegalStateException("Unexpected spawn count: " + templates.get("goblin"));
+            }
+        }
+    }
+
+    private static void runChild(boolean metrics) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-Drpg.metrics=" + metrics,
+                "-cp", System.getProperty("java.class.path"),
+                MetricsOverheadBenchmark.class.getName(), "child")
+                .inheritIO()
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("metrics=" + metrics + " run failed!");
+        }
+    }
+}
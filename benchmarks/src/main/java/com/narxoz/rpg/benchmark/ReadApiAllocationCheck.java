@@ -0,0 +1,96 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyDirector;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.EnemyStore;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.enemy.Skeleton;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.IceComponentFactory;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Proves the Enemy / LootTable read API allocates nothing per call:
+ * getAbilities(), abilityCount(), abilityAt(), forEachAbility(),
+ * getItems(), itemCount(), itemIdAt(), itemAt() and forEachItemId().
+ *
+ * Measures bytes allocated by the current thread over many calls and
+ * exits with an IllegalStateException if any of them allocates.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.ReadApiAllocationCheck
+ */
+public class ReadApiAllocationCheck {
+
+    private static final int CALLS = 1_000_000;
+
+    private static long checksum;
+
+    public static void main(String[] args) {
+        if (Bench.threadAllocatedBytes() < 0) {
+            System.out.println("This JVM cannot count allocated bytes, nothing checked.");
+            return;
+        }
+        Goblin goblin = new Goblin("Goblin");
+        goblin.addAbility(AbilityCatalog.FLAME_BREATH);
+        goblin.setLootTable(new FireComponentFactory().createLootTable());
+        Skeleton skeleton = new Skeleton("Skeleton");
+        skeleton.addAbility(AbilityCatalog.FROST_BREATH);
+        skeleton.setLootTable(new IceComponentFactory().createLootTable());
+        Enemy boss = new EnemyDirector(new BossEnemyBuilder()).createRaidBoss(new FireComponentFactory());
+        EnemyStore store = new EnemyStore(16);
+        Enemy stored = store.view(store.spawn(goblin));
+
+        Consumer<Ability> abilityVisitor = ability -> checksum += ability.getDamage();
+        IntConsumer itemVisitor = id -> checksum += id;
+
+        int failures = 0;
+        for (Enemy enemy : new Enemy[] {goblin, goblin.clone(), skeleton, boss, stored}) {
+            String label = enemy.getClass().getSimpleName();
+            failures += check(label + ".getAbilities()", () -> {
+                List<Ability> abilities = enemy.getAbilities();
+                checksum += abilities.size();
+            });
+            failures += check(label + ".abilityCount()/abilityAt()", () -> {
+                for (int i = 0; i < enemy.abilityCount(); i++) {
+                    checksum += enemy.abilityAt(i).getDamage();
+                }
+            });
+            failures += check(label + ".forEachAbility()", () -> enemy.forEachAbility(abilityVisitor));
+
+            LootTable loot = enemy.getLootTable();
+            String lootLabel = loot.getClass().getSimpleName();
+            failures += check(lootLabel + ".getItems()", () -> checksum += loot.getItems().size());
+            failures += check(lootLabel + ".itemCount()/itemIdAt()/itemAt()", () -> {
+                for (int i = 0; i < loot.itemCount(); i++) {
+                    checksum += loot.itemIdAt(i) + loot.itemAt(i).length();
+                }
+            });
+            failures += check(lootLabel + ".forEachItemId()", () -> loot.forEachItemId(itemVisitor));
+        }
+        Bench.sink = checksum;
+        if (failures > 0) {
+            throw new IllegalStateException(failures + " read methods allocate!");
+        }
+        System.out.println("All read methods are allocation-free.");
+    }
+
+    private static int check(String label, Runnable call) {
+        for (int i = 0; i < CALLS; i++) {
+            call.run();
+        }
+        long before = Bench.threadAllocatedBytes();
+        for (int i = 0; i < CALLS; i++) {
+            call.run();
+        }
+        double perCall = (double) (Bench.threadAllocatedBytes() - before) / CALLS;
+        System.out.printf("%-55s %8.2f B/call%n", label, perCall);
+        return perCall < 0.01 ? 0 : 1;
+    }
+}
@@ -0,0 +1,92 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.enemy.Skeleton;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Read scalability of EnemyRegistry under contention.
+ *
+ * N reader threads spawn from a shared registry while one writer keeps
+ * hot-swapping templates. Aggregate spawns/s should grow roughly linearly
+ * with N up to the number of cores.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.RegistryContentionBenchmark
+ */
+public class RegistryContentionBenchmark {
+
+    private static final int TEMPLATES = 64;
+    private static final int SPAWNS_PER_THREAD = 2_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        EnemyRegistry registry = new EnemyRegistry();
+        String[] keys = new String[TEMPLATES];
+        for (int i = 0; i < TEMPLATES; i++) {
+            keys[i] = "template-" + i;
+            registry.registerTemplate(keys[i], i % 2 == 0 ? new Goblin("Goblin " + i) : new Skeleton("Skeleton " + i));
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Cores: " + cores);
+        double single = 0;
+        for (int threads = 1; threads <= Math.max(8, cores * 2); threads *= 2) {
+            run(registry, keys, threads); // warmup
+            double rate = run(registry, keys, threads);
+            if (threads == 1) {
+                single = rate;
+            }
+            System.out.printf("%3d readers: %,15.0f spawns/s  (x%.2f vs 1 reader)%n", threads, rate, rate / single);
+        }
+    }
+
+    private static double run(EnemyRegistry registry, String[] keys, int threads) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean stop = new AtomicBoolean();
+
+        Thread writer = new Thread(() -> {
+            int i = 0;
+            while (!stop.get()) {
+                registry.registerTemplate(keys[i++ % keys.length], new Goblin("Hot-swapped Goblin"));
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            Thread reader = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int mask = keys.length - 1;
+                Enemy last = null;
+                for (int i = 0; i < SPAWNS_PER_THREAD; i++) {
+                    last = registry.createFromTemplate(keys[(i + seed) & mask]);
+                }
+                Bench.sink = last;
+                done.countDown();
+            });
+            reader.start();
+        }
+
+        writer.start();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        stop.set(true);
+        writer.join();
+        return (double) threads * SPAWNS_PER_THREAD * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,74 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyDirector;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.ShadowComponentFactory;
+import com.narxoz.rpg.render.ByteSink;
+import com.narxoz.rpg.render.EnemyRenderer;
+import com.narxoz.rpg.render.JsonEnemyRenderer;
+import com.narxoz.rpg.render.TextEnemyRenderer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Dumps a roster of one million enemies (goblins with a raid boss every
+ * 1000th slot) to a temp file in text and JSON, in one streaming pass
+ * through a ByteSink, and reports time, file size and heap allocated.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.RenderBenchmark [count]
+ */
+public class RenderBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        Goblin goblin = new Goblin("Goblin");
+        goblin.addAbility(AbilityCatalog.FLAME_BREATH);
+        goblin.setLootTable(new FireComponentFactory().createLootTable());
+        Enemy boss = new EnemyDirector(new BossEnemyBuilder()).createRaidBoss(new ShadowComponentFactory());
+        Enemy[] prototypes = {goblin.clone(), boss};
+
+        // A virtual roster: no per-enemy objects, so the numbers below are the renderer's own cost
+        List<Enemy> roster = new AbstractList<Enemy>() {
+            @Override
+            public Enemy get(int index) {
+                return prototypes[index % 1000 == 999 ? 1 : 0];
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+
+        EnemyRenderer[] renderers = {new TextEnemyRenderer(), new JsonEnemyRenderer()};
+        for (int pass = 0; pass < 2; pass++) {
+            System.out.println(pass == 0 ? "--- warmup ---" : "--- measured ---");
+            for (EnemyRenderer renderer : renderers) {
+                Path file = Files.createTempFile("roster", ".out");
+                try {
+                    long allocated = Bench.threadAllocatedBytes();
+                    long start = System.nanoTime();
+                    try (ByteSink sink = ByteSink.toFile(file)) {
+                        renderer.renderAll(roster, sink);
+                    }
+                    long elapsed = System.nanoTime() - start;
+                    allocated = Bench.threadAllocatedBytes() - allocated;
+                    System.out.printf("%-20s %,d enemies in %,d ms, %,d MB on disk, %.2f B allocated/enemy%n",
+                            renderer.getClass().getSimpleName(), count, elapsed / 1_000_000,
+                            Files.size(file) >> 20, (double) allocated / count);
+                } finally {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wave-spawn throughput: per-call createFromTemplate(key) loop versus the
+ * bulk createFromTemplate(key, count) and spawnInto(...) APIs.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.SpawnBenchmark
+ */
+public class SpawnBenchmark {
+
+    public static void main(String[] args) {
+        Goblin goblin = new Goblin("Goblin");
+        goblin.addAbility(AbilityCatalog.FLAME_BREATH);
+        goblin.setLootTable(new FireComponentFactory().createLootTable());
+
+        EnemyRegistry registry = new EnemyRegistry();
+        registry.registerTemplate("goblin", goblin);
+
+        for (int wave : new int[] {1_000, 100_000}) {
+            int rounds = Math.max(20, 2_000_000 / wave);
+            System.out.println("--- wave of " + wave + " ---");
+
+            Bench.measure("loop createFromTemplate(key)", rounds, rounds, wave, () -> {
+                List<Enemy> out = new ArrayList<>(wave);
+                for (int i = 0; i < wave; i++) {
+                    out.add(registry.createFromTemplate("goblin"));
+                }
+                Bench.sink = out;
+            });
+
+            Bench.measure("createFromTemplate(key, count)", rounds, rounds, wave,
+                    () -> Bench.sink = registry.createFromTemplate("goblin", wave));
+
+            Enemy[] buffer = new Enemy[wave];
+            Bench.measure("spawnInto(key, buffer, 0, count)", rounds, rounds, wave, () -> {
+                registry.spawnInto("goblin", buffer, 0, wave);
+                Bench.sink = buffer;
+            });
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.data.LoadReport;
+import com.narxoz.rpg.data.TemplateLoader;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads a generated catalog of 100k+ templates (with a few deliberately
+ * broken rows) from CSV and from JSON lines, sequentially and in parallel,
+ * and checks that every good row was registered and every bad one reported.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.TemplateLoaderBenchmark [templates] [threads]
+ */
+public class TemplateLoaderBenchmark {
+
+    private static final String[] THEMES = {"fire", "ice", "shadow", ""};
+
+    /** Every BAD_EVERY-th row is broken in one of a few ways. */
+    private static final int BAD_EVERY = 10_007;
+
+    public static void main(String[] args) throws IOException {
+        int templates = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        Path csv = Files.createTempFile("templates", ".csv");
+        Path jsonl = Files.createTempFile("templates", ".jsonl");
+        try {
+            int bad = writeCsv(csv, templates);
+            writeJsonLines(jsonl, templates);
+            System.out.printf("%,d rows (%,d bad): CSV %,d KB, JSON lines %,d KB%n",
+                    templates, bad, Files.size(csv) >> 10, Files.size(jsonl) >> 10);
+
+            for (int run = 0; run < 3; run++) {
+                load(csv, 1, templates, bad, run == 2);
+                load(csv, threads, templates, bad, false);
+                load(jsonl, 1, templates, bad, false);
+                load(jsonl, threads, templates, bad, false);
+            }
+        } finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(jsonl);
+        }
+    }
+
+    private static void load(Path file, int threads, int templates, int bad, boolean printBadRows)
+            throws IOException {
+        EnemyRegistry registry = new EnemyRegistry();
+        LoadReport report = new TemplateLoader(registry).setParallelism(threads).load(file);
+        if (report.getLoaded() != templates - bad || report.getBadRowCount() != bad
+                || registry.templateCount() != templates - bad) {
+            throw new IllegalStateException("Unexpected load result: " + report);
+        }
+        String format = file.toString().endsWith(".csv") ? "CSV" : "JSON lines";
+        System.out.printf("%-10s %2d thread(s): %,8d loaded, %,4d bad in %,6d ms (%,.0f rows/s)%n",
+                format, threads, report.getLoaded(), report.getBadRowCount(),
+                report.getElapsedNanos() / 1_000_000, report.getRows() * 1e9 / report.getElapsedNanos());
+        if (printBadRows) {
+            System.out.println(report);
+        }
+        Bench.sink = registry;
+    }
+
+    private static int writeCsv(Path file, int templates) throws IOException {
+        int bad = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("# generated by TemplateLoaderBenchmark\n");
+            out.write("key,type,name,health,damage,defense,speed,theme,phases,abilities\n");
+            for (int i = 0; i < templates; i++) {
+                if (i % BAD_EVERY == BAD_EVERY - 1) {
+                    bad++;
+                    out.write(badCsvRow(i));
+                } else if (i % 50 == 0) {
+                    out.write("boss_" + i + ",boss,\"Dragon, the " + i + "th\"," + (5000 + i) + ",120,40,25,"
+                            + THEMES[i % 4] + ",1:" + (5000 + i) + ";2:2500;3:1000,Vanish\n");
+                } else {
+                    out.write("mob_" + i + ",basic,Mob " + i + "," + (100 + i % 400) + ",15,5,35,"
+                            + THEMES[i % 4] + ",,\n");
+                }
+            }
+        }
+        return bad;
+    }
+
+    private static String badCsvRow(int i) {
+        switch ((i / BAD_EVERY) % 4) {
+            case 0:  return "bad_" + i + ",basic,Mob " + i + ",lots,15,5,35,,,\n";
+            case 1:  return "bad_" + i + ",dragon,Mob " + i + ",100,15,5,35,,,\n";
+            case 2:  return "bad_" + i + ",boss,Boss " + i + ",100,15,5,35,fire,,\n";
+            default: return "bad_" + i + ",basic,\"Mob " + i + ",100,15,5,35,,,\n";
+        }
+    }
+
+    private static void writeJsonLines(Path file, int templates) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < templates; i++) {
+                String theme = THEMES[i % 4].isEmpty() ? "null" : "\"" + THEMES[i % 4] + "\"";
+                if (i % BAD_EVERY == BAD_EVERY - 1) {
+                    out.write(badJsonRow(i));
+                } else if (i % 50 == 0) {
+                    out.write("{\"key\":\"boss_" + i + "\",\"type\":\"boss\",\"name\":\"Dragon \\\"" + i
+                            + "\\\"\",\"health\":" + (5000 + i) + ",\"damage\":120,\"defense\":40,\"speed\":25,"
+                            + "\"theme\":" + theme + ",\"phases\":[\"1:" + (5000 + i) + "\",\"2:2500\"],"
+                            + "\"abilities\":[\"Vanish\"],\"notes\":{\"tier\":[1,2]}}\n");
+                } else {
+                    out.write("{\"key\":\"mob_" + i + "\",\"type\":\"basic\",\"name\":\"Mob " + i
+                            + "\",\"health\":" + (100 + i % 400) + ",\"damage\":15,\"defense\":5,\"speed\":35,"
+                            + "\"theme\":" + theme + "}\n");
+                }
+            }
+        }
+    }
+
+    private static String badJsonRow(int i) {
+        switch ((i / BAD_EVERY) % 4) {
+            case 0:  return "{\"key\":\"bad_" + i + "\",\"type\":\"basic\",\"name\":\"Mob\",\"health\":\"lots\"}\n";
+            case 1:  return "{\"key\":\"bad_" + i + "\",\"type\":\"basic\",\"name\":\"Mob\",\"health\":100,"
+                    + "\"abilities\":[\"Sneeze\"]}\n";
+            case 2:  return "{\"key\":\"bad_" + i + "\",\"type\":\"boss\",\"name\":\"Boss\",\"health\":100}\n";
+            default: return "{\"key\":\"bad_" + i + "\",\"type\":\"basic\",\"name\":\"Mob\",\"health\":100\n";
+        }
+    }
+}
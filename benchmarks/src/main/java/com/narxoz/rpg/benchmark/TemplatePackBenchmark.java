@@ -0,0 +1,138 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.codec.TemplatePack;
+import com.narxoz.rpg.codec.TemplatePackWriter;
+import com.narxoz.rpg.combat.Element;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.IceComponentFactory;
+import com.narxoz.rpg.factory.ShadowComponentFactory;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BiConsumer;
+
+/**
+ * Time-to-first-spawn: building and registering every template at startup
+ * (what Main does, with builders and component factories) versus attaching
+ * a memory-mapped TemplatePack and decoding only the key that is spawned.
+ *
+ * Each path runs in a fresh JVM so class loading and JIT state are the
+ * same as a real process start.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.TemplatePackBenchmark [templates]
+ */
+public class TemplatePackBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && args[0].equals("build")) {
+            buildPath(Integer.parseInt(args[1]));
+            return;
+        }
+        if (args.length == 2 && args[0].equals("pack")) {
+            packPath(Path.of(args[1]));
+            return;
+        }
+
+        int templates = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        Path pack = Files.createTempFile("templates", ".pack");
+        try {
+            TemplatePackWriter writer = new TemplatePackWriter();
+            buildTemplates(templates, writer::add);
+            writer.writeTo(pack);
+            System.out.printf("Pack of %,d templates: %,d KB%n", templates, Files.size(pack) >> 10);
+            for (int run = 0; run < 3; run++) {
+                runChild("build", String.valueOf(templates));
+                runChild("pack", pack.toString());
+            }
+        } finally {
+            Files.deleteIfExists(pack);
+        }
+    }
+
+    private static void buildPath(int templates) {
+        long start = System.nanoTime();
+        EnemyRegistry registry = new EnemyRegistry();
+        buildTemplates(templates, registry::registerTemplate);
+        Bench.sink = registry.createFromTemplate(key(templates / 2));
+        report("build + register all", start);
+    }
+
+    private static void packPath(Path file) throws IOException {
+        long start = System.nanoTime();
+        EnemyRegistry registry = new EnemyRegistry();
+        TemplatePack pack = TemplatePack.open(file);
+        registry.attachPack(pack);
+        Bench.sink = registry.createFromTemplate(key(pack.size() / 2));
+        report("mapped pack, lazy decode", start);
+    }
+
+    private static void report(String label, long start) {
+        long elapsed = System.nanoTime() - start;
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.out.printf("%-30s first spawn after %,8.2f ms in main (JVM uptime %,d ms)%n",
+                label, elapsed / 1e6, uptime);
+    }
+
+    /**
+     * The startup work a game does today: one builder chain per template.
+     */
+    private static void buildTemplates(int count, BiConsumer<String, Enemy> sink) {
+        EnemyComponentFactory[] factories = {
+                new FireComponentFactory(), new IceComponentFactory(), new ShadowComponentFactory()};
+        Element[] elements = {Element.FIRE, Element.ICE, Element.SHADOW};
+        for (int i = 0; i < count; i++) {
+            EnemyComponentFactory factory = factories[i % 3];
+            Enemy template;
+            if (i % 4 == 0) {
+                int health = 1000 + i;
+                template = new BossEnemyBuilder()
+                        .setName("Boss " + i)
+                        .setHealth(health)
+                        .setDamage(50 + i % 100)
+                        .setDefense(15)
+                        .setSpeed(30)
+                        .setElement(elements[i % 3])
+                        .setAbilities(factory.createAbilities())
+                        .setLootTable(factory.createLootTable())
+                        .setAI(factory.createAIBehavior())
+                        .addPhase(1, health)
+                        .addPhase(2, health / 2)
+                        .build();
+            } else {
+                template = new BasicEnemyBuilder()
+                        .setName("Minion " + i)
+                        .setHealth(50 + i % 200)
+                        .setDamage(5 + i % 20)
+                        .setDefense(2)
+                        .setSpeed(20)
+                        .setAbilities(factory.createAbilities())
+                        .setLootTable(factory.createLootTable())
+                        .build();
+            }
+            sink.accept(key(i), template);
+        }
+    }
+
+    private static String key(int i) {
+        return "template_" + i;
+    }
+
+    private static void runChild(String mode, String argument) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                TemplatePackBenchmark.class.getName(), mode, argument)
+                .inheritIO()
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(mode + " run failed!");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.narxoz.rpg.benchmark;
+
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.codec.EnemyCodec;
+import com.narxoz.rpg.combat.AIBehavior;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.data.LoadReport;
+import com.narxoz.rpg.data.TemplateLoader;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.FireComponentFactory;
+import com.narxoz.rpg.factory.ThemeRegistry;
+import com.narxoz.rpg.loot.Rarity;
+import com.narxoz.rpg.loot.ThemedLootTable;
+import com.narxoz.rpg.loot.WeightedLoot;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Registers a "Poison" theme at runtime (no factory class) and checks it
+ * works everywhere a built-in theme does: builders, the codec, the text
+ * renderer and the template loader. Then shows what each factory call
+ * allocates now that families are shared.
+ *
+ * Run: java -cp benchmarks/target/benchmarks.jar com.narxoz.rpg.benchmark.ThemeRegistryCheck
+ */
+public class ThemeRegistryCheck {
+
+    public static void main(String[] args) throws Exception {
+        WeightedLoot drops = WeightedLoot.builder()
+                .item("Venom Sac", Rarity.RARE)
+                .item("Toxic Fang", Rarity.UNCOMMON)
+                .guaranteed("Poison Vial", Rarity.COMMON)
+                .gold(200, 400)
+                .experience(100, 200)
+                .build();
+        EnemyComponentFactory poison = ThemeRegistry.register("Poison",
+                List.of(AbilityCatalog.SHADOW_STRIKE), new ThemedLootTable("Poison", drops), AIBehavior.AGGRESSIVE);
+        System.out.println("Themes: " + ThemeRegistry.themes());
+
+        Enemy hydra = new BossEnemyBuilder()
+                .setName("Poison Hydra")
+                .setHealth(8000).setDamage(120).setDefense(60).setSpeed(40)
+                .setAbilities(poison.createAbilities())
+                .setLootTable(poison.createLootTable())
+                .setAI(poison.createAIBehavior())
+                .addPhase(1, 8000)
+                .build();
+        hydra.displayInfo();
+
+        EnemyCodec codec = new EnemyCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        codec.writeHeader(buffer);
+        codec.encode(hydra, buffer);
+        buffer.flip();
+        codec.readHeader(buffer);
+        Enemy decoded = codec.decode(buffer);
+        check(decoded.getLootTable() == poison.createLootTable(), "decoded loot is the shared Poison table");
+
+        EnemyRegistry registry = new EnemyRegistry();
+        LoadReport report = new TemplateLoader(registry).loadCsv(new StringReader(
+                "key,type,name,health,damage,defense,speed,theme\n"
+                        + "bog_goblin,basic,Bog Goblin,90,12,4,30,poison\n"), "inline");
+        check(report.getLoaded() == 1, "loader resolves a registry theme: " + report);
+        check(registry.createFromTemplate("bog_goblin").getLootTable() == poison.createLootTable(),
+                "loaded template shares the Poison table");
+
+        List<Ability> handle = poison.createAbilities();
+        handle.add(AbilityCatalog.VANISH);
+        check(poison.createAbilities().size() == 1, "editing one handle leaves the family untouched");
+        check(new FireComponentFactory().equals(ThemeRegistry.factory("FIRE")), "factories equal by family");
+
+        System.out.println("--- allocation per call ---");
+        EnemyComponentFactory fire = new FireComponentFactory();
+        Bench.profile("Fire.createAbilities()", 5, 5, 1_000_000, () -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                Bench.sink = fire.createAbilities();
+            }
+        });
+        Bench.profile("Fire.createLootTable()", 5, 5, 1_000_000, () -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                Bench.sink = fire.createLootTable();
+            }
+        });
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new IllegalStateException("FAILED: " + what + "!");
+        }
+        System.out.println("ok   " + what);
+    }
+}
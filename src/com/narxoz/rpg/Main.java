@@ -3,7 +3,7 @@ package com.narxoz.rpg;
 import com.narxoz.rpg.builder.BossEnemyBuilder;
 import com.narxoz.rpg.builder.EnemyDirector;
 import com.narxoz.rpg.combat.Ability;
-import com.narxoz.rpg.combat.FlameBreath;
+import com.narxoz.rpg.combat.AbilityCatalog;
 import com.narxoz.rpg.enemy.Enemy;
 import com.narxoz.rpg.enemy.Goblin;
 import com.narxoz.rpg.enemy.Skeleton;
@@ -82,7 +82,7 @@ public class Main {
         // Goblin difficulty tiers
         Goblin baseGoblin = new Goblin("Goblin");
         baseGoblin.setLootTable(fireFactory.createLootTable());
-        baseGoblin.addAbility(new FlameBreath());
+        baseGoblin.addAbility(AbilityCatalog.FLAME_BREATH);
 
         Enemy eliteGoblin = baseGoblin.clone();
         if (eliteGoblin instanceof Goblin) {
@@ -147,16 +147,12 @@ public class Main {
 
         EnemyRegistry registry = new EnemyRegistry();
         registry.registerTemplate("demon-lord", demonLord);
+        registry.registerTier("greater", 2.0);
+        registry.registerTier("supreme", 3.0);
 
-        Enemy greater = registry.createFromTemplate("demon-lord");
-        if (greater instanceof com.narxoz.rpg.enemy.DragonBoss) {
-            ((com.narxoz.rpg.enemy.DragonBoss) greater).multiplyStats(2.0);
-        }
-
-        Enemy supreme = registry.createFromTemplate("demon-lord");
-        if (supreme instanceof com.narxoz.rpg.enemy.DragonBoss) {
-            ((com.narxoz.rpg.enemy.DragonBoss) supreme).multiplyStats(3.0);
-        }
+        // Tier variants are derived once and cached; each spawn is one clone
+        Enemy greater = registry.createTier("demon-lord", "greater");
+        Enemy supreme = registry.createTier("demon-lord", "supreme");
 
         System.out.println("Demon Lord variants:");
         System.out.println("  Original:       HP " + demonLord.getHealth());
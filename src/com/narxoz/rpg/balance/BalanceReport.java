@@ -0,0 +1,96 @@
+package com.narxoz.rpg.balance;
+
+/**
+ * Win-rate and time-to-kill statistics for one
+ * (preset, component factory, party) combination.
+ *
+ * Time-to-kill is measured in combat rounds, over the fights the party won.
+ */
+public final class BalanceReport {
+
+    private final Preset preset;
+    private final String theme;
+    private final String party;
+    private final long trials;
+    private final long wins;
+    private final long draws;
+    private final long[] killRounds; // killRounds[r] = party wins that took r rounds
+
+    BalanceReport(Preset preset, String theme, String party, long trials, long wins, long draws, long[] killRounds) {
+        this.preset = preset;
+        this.theme = theme;
+        this.party = party;
+        this.trials = trials;
+        this.wins = wins;
+        this.draws = draws;
+        this.killRounds = killRounds;
+    }
+
+    public Preset getPreset() {
+        return preset;
+    }
+
+    public String getTheme() {
+        return theme;
+    }
+
+    public String getParty() {
+        return party;
+    }
+
+    public long getTrials() {
+        return trials;
+    }
+
+    public double winRate() {
+        return trials == 0 ? 0 : (double) wins / trials;
+    }
+
+    public double drawRate() {
+        return trials == 0 ? 0 : (double) draws / trials;
+    }
+
+    /**
+     * @return Mean rounds to kill the enemy, over party wins (0 if none)
+     */
+    public double meanTimeToKill() {
+        long total = 0;
+        for (int rounds = 0; rounds < killRounds.length; rounds++) {
+            total += rounds * killRounds[rounds];
+        }
+        return wins == 0 ? 0 : (double) total / wins;
+    }
+
+    /**
+     * @param percentile Between 0 and 100
+     * @return Rounds within which that share of party wins ended (0 if none)
+     */
+    public int timeToKillPercentile(double percentile) {
+        if (wins == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * wins);
+        long seen = 0;
+        for (int rounds = 0; rounds < killRounds.length; rounds++) {
+            seen += killRounds[rounds];
+            if (seen >= Math.max(1, rank)) {
+                return rounds;
+            }
+        }
+        return killRounds.length - 1;
+    }
+
+    /**
+     * @return Number of party wins that took exactly this many rounds
+     */
+    public long winsInRounds(int rounds) {
+        return rounds >= 0 && rounds < killRounds.length ? killRounds[rounds] : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-10s %-8s %-10s win %5.1f%%  draw %4.1f%%  TTK mean %5.1f  p50 %3d  p90 %3d  p99 %3d",
+                preset, theme, party, 100 * winRate(), 100 * drawRate(), meanTimeToKill(),
+                timeToKillPercentile(50), timeToKillPercentile(90), timeToKillPercentile(99));
+    }
+}
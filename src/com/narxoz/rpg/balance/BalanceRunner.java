@@ -0,0 +1,192 @@
+package com.narxoz.rpg.balance;
+
+import com.narxoz.rpg.combat.CombatSimulator;
+import com.narxoz.rpg.combat.Encounter;
+import com.narxoz.rpg.combat.FightResult;
+import com.narxoz.rpg.combat.Party;
+import com.narxoz.rpg.combat.SplitMix64;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.ThemedComponentFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo balance runner for the EnemyDirector presets.
+ *
+ * Simulates every (preset x component factory x party) combination many
+ * times and reports win-rate and time-to-kill distributions.
+ *
+ * Parallelism and determinism:
+ * The trials of each combination are split into fork/join chunks. Trial i
+ * of combination c always uses seed SplitMix64.seedFor(seedFor(seed, c), i)
+ * and chunk results are only ever summed, so the reports are identical for
+ * a given seed whatever the number of threads or the way work was split.
+ *
+ * Usage:
+ *   BalanceRunner runner = new BalanceRunner(10_000, 42L);
+ *   List<BalanceReport> reports = runner.run(
+ *       List.of(Preset.MINI_BOSS, Preset.RAID_BOSS),
+ *       List.of(new FireComponentFactory(), new IceComponentFactory()),
+ *       List.of(party));
+ */
+public class BalanceRunner {
+
+    /** Trials simulated sequentially by one fork/join leaf. */
+    private static final int TRIALS_PER_CHUNK = 1024;
+
+    private final int trialsPerCombination;
+    private final long seed;
+    private final ForkJoinPool pool;
+    private final int maxRounds;
+
+    public BalanceRunner(int trialsPerCombination, long seed) {
+        this(trialsPerCombination, seed, ForkJoinPool.commonPool(), CombatSimulator.DEFAULT_MAX_ROUNDS);
+    }
+
+    public BalanceRunner(int trialsPerCombination, long seed, ForkJoinPool pool, int maxRounds) {
+        if (trialsPerCombination <= 0) {
+            throw new IllegalArgumentException("Trials per combination must be positive!");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null!");
+        }
+        if (maxRounds <= 0) {
+            throw new IllegalArgumentException("Max rounds must be positive!");
+        }
+        this.trialsPerCombination = trialsPerCombination;
+        this.seed = seed;
+        this.pool = pool;
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Simulate every combination.
+     *
+     * @return One report per combination, ordered preset, then factory, then party
+     */
+    public List<BalanceReport> run(List<Preset> presets, List<? extends EnemyComponentFactory> factories,
+                                   List<Party> parties) {
+        List<TrialTask> tasks = new ArrayList<>();
+        List<String> themes = new ArrayList<>();
+        List<Preset> taskPresets = new ArrayList<>();
+        List<Party> taskParties = new ArrayList<>();
+        for (Preset preset : presets) {
+            for (EnemyComponentFactory factory : factories) {
+                for (Party party : parties) {
+                    Encounter encounter = Encounter.of(party, preset.create(factory));
+                    long combinationSeed = SplitMix64.seedFor(seed, tasks.size());
+                    tasks.add(new TrialTask(encounter, combinationSeed, maxRounds, 0, trialsPerCombination));
+                    themes.add(themeName(factory));
+                    taskPresets.add(preset);
+                    taskParties.add(party);
+                }
+            }
+        }
+
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                invokeAll(tasks);
+                return null;
+            }
+        });
+
+        List<BalanceReport> reports = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Tally tally = tasks.get(i).join();
+            reports.add(new BalanceReport(taskPresets.get(i), themes.get(i), taskParties.get(i).getName(),
+                    trialsPerCombination, tally.wins, tally.draws, tally.killRounds));
+        }
+        return reports;
+    }
+
+    private static String themeName(EnemyComponentFactory factory) {
+        if (factory instanceof ThemedComponentFactory) {
+            return ((ThemedComponentFactory) factory).getTheme();
+        }
+        String name = factory.getClass().getSimpleName();
+        return name.endsWith("ComponentFactory") ? name.substring(0, name.length() - "ComponentFactory".length()) : name;
+    }
+
+    /**
+     * Counts for a range of trials. Merging is a plain sum.
+     */
+    private static final class Tally {
+
+        long wins;
+        long draws;
+        final long[] killRounds;
+
+        Tally(int maxRounds) {
+            this.killRounds = new long[maxRounds + 1];
+        }
+
+        void add(Tally other) {
+            wins += other.wins;
+            draws += other.draws;
+            for (int i = 0; i < killRounds.length; i++) {
+                killRounds[i] += other.killRounds[i];
+            }
+        }
+    }
+
+    /**
+     * Simulates trials [from, to) of one combination.
+     */
+    private static final class TrialTask extends RecursiveTask<Tally> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Encounter encounter;
+        private final long combinationSeed;
+        private final int maxRounds;
+        private final int from;
+        private final int to;
+
+        TrialTask(Encounter encounter, long combinationSeed, int maxRounds, int from, int to) {
+            this.encounter = encounter;
+            this.combinationSeed = combinationSeed;
+            this.maxRounds = maxRounds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= TRIALS_PER_CHUNK) {
+                return simulateRange();
+            }
+            int mid = (from + to) >>> 1;
+            TrialTask left = new TrialTask(encounter, combinationSeed, maxRounds, from, mid);
+            TrialTask right = new TrialTask(encounter, combinationSeed, maxRounds, mid, to);
+            left.fork();
+            Tally tally = right.compute();
+            tally.add(left.join());
+            return tally;
+        }
+
+        private Tally simulateRange() {
+            CombatSimulator simulator = new CombatSimulator(maxRounds);
+            FightResult result = new FightResult();
+            Tally tally = new Tally(maxRounds);
+            for (int trial = from; trial < to; trial++) {
+                simulator.simulate(encounter, SplitMix64.seedFor(combinationSeed, trial), result);
+                switch (result.getOutcome()) {
+                    case PARTY_WON:
+                        tally.wins++;
+                        tally.killRounds[result.getRounds()]++;
+                        break;
+                    case DRAW:
+                        tally.draws++;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return tally;
+        }
+    }
+}
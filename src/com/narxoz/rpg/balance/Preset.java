@@ -0,0 +1,55 @@
+package com.narxoz.rpg.balance;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyDirector;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+
+/**
+ * The EnemyDirector presets, as values the balance runner can iterate over.
+ *
+ * All presets share two directors, so each (preset, registered theme) pair
+ * is compiled into a blueprint once per JVM and every create() is a clone.
+ */
+public enum Preset {
+
+    MINION {
+        @Override
+        public Enemy create(EnemyComponentFactory factory) {
+            return Directors.BASIC.createMinion(factory);
+        }
+    },
+    ELITE {
+        @Override
+        public Enemy create(EnemyComponentFactory factory) {
+            return Directors.BASIC.createElite(factory);
+        }
+    },
+    MINI_BOSS {
+        @Override
+        public Enemy create(EnemyComponentFactory factory) {
+            return Directors.BOSS.createMiniBoss(factory);
+        }
+    },
+    RAID_BOSS {
+        @Override
+        public Enemy create(EnemyComponentFactory factory) {
+            return Directors.BOSS.createRaidBoss(factory);
+        }
+    };
+
+    /**
+     * Build this preset with a theme's components.
+     */
+    public abstract Enemy create(EnemyComponentFactory factory);
+
+    /**
+     * Shared directors (enum constants cannot reference their own statics).
+     */
+    private static final class Directors {
+
+        static final EnemyDirector BASIC = new EnemyDirector(new BasicEnemyBuilder());
+        static final EnemyDirector BOSS = new EnemyDirector(new BossEnemyBuilder());
+    }
+}
@@ -1,9 +1,15 @@
 package com.narxoz.rpg.builder;
 
+import com.narxoz.rpg.combat.AIBehavior;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.combat.Element;
 import com.narxoz.rpg.enemy.Enemy;
 import com.narxoz.rpg.enemy.Goblin;
 import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.metrics.EnemyBuildEvent;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.OperationMetrics;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,20 +20,34 @@ import java.util.List;
  */
 public class BasicEnemyBuilder implements EnemyBuilder {
 
+    private static final OperationMetrics BUILD_METRICS = Metrics.BUILDS.get("BasicEnemyBuilder");
+
     private String name;
     private int health;
     private int damage;
     private int defense;
     private int speed;
-    private String element;
+    private Element element;
     private List<Ability> abilities;
     private LootTable lootTable;
-    private String aiBehavior;
+    private AIBehavior aiBehavior;
 
     public BasicEnemyBuilder() {
+        reset();
+    }
+
+    @Override
+    public EnemyBuilder reset() {
+        this.name = null;
+        this.health = 0;
+        this.damage = 0;
+        this.defense = 0;
+        this.speed = 0;
         this.abilities = new ArrayList<>();
-        this.element = "NONE";
-        this.aiBehavior = "NEUTRAL";
+        this.lootTable = null;
+        this.element = Element.NONE;
+        this.aiBehavior = AIBehavior.NEUTRAL;
+        return this;
     }
 
     @Override
@@ -61,22 +81,27 @@ public class BasicEnemyBuilder implements EnemyBuilder {
     }
 
     @Override
-    public EnemyBuilder setElement(String element) {
-        this.element = element;
+    public EnemyBuilder setElement(Element element) {
+        this.element = element != null ? element : Element.NONE;
         return this;
     }
 
     @Override
     public EnemyBuilder addAbility(Ability ability) {
         if (ability != null) {
-            this.abilities.add(ability);
+            this.abilities.add(AbilityCatalog.intern(ability));
         }
         return this;
     }
 
     @Override
     public EnemyBuilder setAbilities(List<Ability> abilities) {
-        this.abilities = abilities != null ? new ArrayList<>(abilities) : new ArrayList<>();
+        this.abilities = new ArrayList<>();
+        if (abilities != null) {
+            for (Ability ability : abilities) {
+                addAbility(ability);
+            }
+        }
         return this;
     }
 
@@ -87,8 +112,8 @@ public class BasicEnemyBuilder implements EnemyBuilder {
     }
 
     @Override
-    public EnemyBuilder setAI(String aiBehavior) {
-        this.aiBehavior = aiBehavior;
+    public EnemyBuilder setAI(AIBehavior aiBehavior) {
+        this.aiBehavior = aiBehavior != null ? aiBehavior : AIBehavior.NEUTRAL;
         return this;
     }
 
@@ -100,6 +125,9 @@ public class BasicEnemyBuilder implements EnemyBuilder {
 
     @Override
     public Enemy build() {
+        long start = Metrics.start();
+        EnemyBuildEvent event = new EnemyBuildEvent();
+        event.begin();
         // Validate mandatory fields
         if (name == null || name.isEmpty()) {
             throw new IllegalStateException("Enemy name is mandatory!");
@@ -116,13 +144,15 @@ public class BasicEnemyBuilder implements EnemyBuilder {
         enemy.setDamageValue(damage);
         enemy.setDefenseValue(defense);
         enemy.setSpeedValue(speed);
+        enemy.setElement(element);
+        enemy.setAIBehavior(aiBehavior);
         
         // Set loot and abilities
         enemy.setLootTable(lootTable);
-        for (Ability ability : abilities) {
-            enemy.addAbility(ability);
-        }
+        enemy.setAbilities(abilities);
 
+        BUILD_METRICS.stop(start);
+        event.complete("BasicEnemyBuilder", abilities.size(), 0);
         return enemy;
     }
 }
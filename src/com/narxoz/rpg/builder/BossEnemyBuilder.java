@@ -1,9 +1,16 @@
 package com.narxoz.rpg.builder;
 
+import com.narxoz.rpg.combat.AIBehavior;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.combat.Element;
 import com.narxoz.rpg.enemy.Enemy;
 import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.PhaseTable;
 import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.metrics.EnemyBuildEvent;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.OperationMetrics;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -16,28 +23,46 @@ import java.util.Map;
  */
 public class BossEnemyBuilder implements EnemyBuilder {
 
+    private static final OperationMetrics BUILD_METRICS = Metrics.BUILDS.get("BossEnemyBuilder");
+
     private String name;
     private int health;
     private int damage;
     private int defense;
     private int speed;
-    private String element;
+    private Element element;
     private List<Ability> abilities;
     private LootTable lootTable;
-    private String aiBehavior;
+    private AIBehavior aiBehavior;
     private Map<Integer, Integer> phases; // phaseNumber -> healthThreshold
     private boolean canFly;
     private boolean hasBreathAttack;
     private int wingspan;
 
     public BossEnemyBuilder() {
+        reset();
+    }
+
+    /**
+     * Forget everything set so far. Phases in particular accumulate across
+     * builds otherwise: a reused builder keeps the previous boss's phases.
+     */
+    @Override
+    public EnemyBuilder reset() {
+        this.name = null;
+        this.health = 0;
+        this.damage = 0;
+        this.defense = 0;
+        this.speed = 0;
         this.abilities = new ArrayList<>();
+        this.lootTable = null;
         this.phases = new HashMap<>();
-        this.element = "NONE";
-        this.aiBehavior = "NEUTRAL";
+        this.element = Element.NONE;
+        this.aiBehavior = AIBehavior.NEUTRAL;
         this.canFly = false;
         this.hasBreathAttack = false;
         this.wingspan = 0;
+        return this;
     }
 
     @Override
@@ -71,22 +96,27 @@ public class BossEnemyBuilder implements EnemyBuilder {
     }
 
     @Override
-    public EnemyBuilder setElement(String element) {
-        this.element = element;
+    public EnemyBuilder setElement(Element element) {
+        this.element = element != null ? element : Element.NONE;
         return this;
     }
 
     @Override
     public EnemyBuilder addAbility(Ability ability) {
         if (ability != null) {
-            this.abilities.add(ability);
+            this.abilities.add(AbilityCatalog.intern(ability));
         }
         return this;
     }
 
     @Override
     public EnemyBuilder setAbilities(List<Ability> abilities) {
-        this.abilities = abilities != null ? new ArrayList<>(abilities) : new ArrayList<>();
+        this.abilities = new ArrayList<>();
+        if (abilities != null) {
+            for (Ability ability : abilities) {
+                addAbility(ability);
+            }
+        }
         return this;
     }
 
@@ -97,8 +127,8 @@ public class BossEnemyBuilder implements EnemyBuilder {
     }
 
     @Override
-    public EnemyBuilder setAI(String aiBehavior) {
-        this.aiBehavior = aiBehavior;
+    public EnemyBuilder setAI(AIBehavior aiBehavior) {
+        this.aiBehavior = aiBehavior != null ? aiBehavior : AIBehavior.NEUTRAL;
         return this;
     }
 
@@ -134,6 +164,9 @@ public class BossEnemyBuilder implements EnemyBuilder {
 
     @Override
     public Enemy build() {
+        long start = Metrics.start();
+        EnemyBuildEvent event = new EnemyBuildEvent();
+        event.begin();
         // Validate mandatory fields
         if (name == null || name.isEmpty()) {
             throw new IllegalStateException("Boss name is mandatory!");
@@ -145,19 +178,19 @@ public class BossEnemyBuilder implements EnemyBuilder {
             throw new IllegalStateException("Boss must have at least one phase!");
         }
 
-        // Extract phase thresholds (assuming phases 1, 2, 3)
-        int phase1 = phases.getOrDefault(1, health);
-        int phase2 = phases.getOrDefault(2, health / 2);
-        int phase3 = phases.getOrDefault(3, health / 4);
+        // Any number of phases: compiled into a sorted primitive table
+        PhaseTable phaseTable = PhaseTable.fromMap(phases);
 
         // Create DragonBoss using the constructor
         // NOTE: DragonBoss constructor is package-private, called only by this builder
         DragonBoss boss = new DragonBoss(
             name, health, damage, defense, speed, element,
-            abilities, phase1, phase2, phase3, lootTable, aiBehavior,
+            abilities, phaseTable, lootTable, aiBehavior,
             canFly, hasBreathAttack, wingspan
         );
 
+        BUILD_METRICS.stop(start);
+        event.complete("BossEnemyBuilder", abilities.size(), phases.size());
         return boss;
     }
 }
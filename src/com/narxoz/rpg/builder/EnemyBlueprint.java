@@ -0,0 +1,90 @@
+package com.narxoz.rpg.builder;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A validated, immutable enemy recipe compiled from an EnemyBuilder.
+ *
+ * build() re-validates and re-assembles the enemy every call. compile()
+ * does that once and keeps the result as a prototype; create() then
+ * stamps instances by cloning it (a shallow, copy-on-write clone), so
+ * each instance costs one clone and no validation.
+ *
+ * Thread-safe: the prototype is never handed out or modified, and its
+ * clone() only reads it, so any number of threads may create() at once.
+ *
+ * Usage:
+ *   EnemyBlueprint goblin = new BasicEnemyBuilder()
+ *       .setName("Goblin").setHealth(100)
+ *       .compile();
+ *   Enemy a = goblin.create();
+ *   Enemy b = goblin.create();   // independent of a
+ */
+public final class EnemyBlueprint {
+
+    private final Enemy prototype;
+
+    private EnemyBlueprint(Enemy prototype) {
+        this.prototype = prototype;
+    }
+
+    /**
+     * Wrap a freshly built enemy. The blueprint keeps a clone of it, so
+     * the copy-on-write bookkeeping of the prototype is settled before
+     * publication and later clones never write to it.
+     */
+    static EnemyBlueprint of(Enemy built) {
+        if (built == null) {
+            throw new IllegalStateException("Builder produced no enemy!");
+        }
+        return new EnemyBlueprint(built.clone());
+    }
+
+    /**
+     * @return A new, independent enemy
+     */
+    public Enemy create() {
+        return prototype.clone();
+    }
+
+    /**
+     * @return count new, independent enemies
+     */
+    public List<Enemy> create(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative!");
+        }
+        Enemy[] enemies = new Enemy[count];
+        createInto(enemies, 0, count);
+        return Arrays.asList(enemies);
+    }
+
+    /**
+     * Fill part of a caller-owned buffer with new enemies.
+     */
+    public void createInto(Enemy[] buffer, int offset, int count) {
+        if (count < 0 || offset < 0 || offset > buffer.length - count) {
+            throw new IllegalArgumentException("Range [" + offset + ", +" + count
+                    + ") does not fit a buffer of " + buffer.length + "!");
+        }
+        for (int i = offset; i < offset + count; i++) {
+            buffer[i] = prototype.clone();
+        }
+    }
+
+    public String getName() {
+        return prototype.getName();
+    }
+
+    public Class<? extends Enemy> getEnemyType() {
+        return prototype.getClass();
+    }
+
+    @Override
+    public String toString() {
+        return "EnemyBlueprint [" + prototype.getClass().getSimpleName() + " '" + prototype.getName() + "']";
+    }
+}
@@ -1,6 +1,8 @@
 package com.narxoz.rpg.builder;
 
+import com.narxoz.rpg.combat.AIBehavior;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.Element;
 import com.narxoz.rpg.enemy.Enemy;
 import com.narxoz.rpg.loot.LootTable;
 
@@ -18,6 +20,10 @@ import java.util.List;
  *
  * Key principle: FLUENT INTERFACE
  * Every setter returns 'this' so methods can be chained.
+ *
+ * Reuse: build() and compile() never hand the builder's own collections
+ * to the result, so one builder may build many enemies. State carries over
+ * between builds, though; call reset() to start a new enemy from scratch.
  */
 public interface EnemyBuilder {
 
@@ -35,7 +41,17 @@ public interface EnemyBuilder {
 
     EnemyBuilder setSpeed(int speed);
 
-    EnemyBuilder setElement(String element);
+    EnemyBuilder setElement(Element element);
+
+    /**
+     * Set the element by name ("FIRE", case-insensitive; null = NONE), for
+     * values read from data files.
+     *
+     * @throws IllegalArgumentException if the name is not an element
+     */
+    default EnemyBuilder setElement(String element) {
+        return setElement(Element.of(element));
+    }
 
     // ============================================================
     // ABILITY METHODS (fluent - return this)
@@ -61,7 +77,17 @@ public interface EnemyBuilder {
     // AI BEHAVIOR (fluent - return this)
     // ============================================================
 
-    EnemyBuilder setAI(String aiBehavior);
+    EnemyBuilder setAI(AIBehavior aiBehavior);
+
+    /**
+     * Set the AI behavior by name ("AGGRESSIVE", case-insensitive;
+     * null = NEUTRAL), for values read from data files.
+     *
+     * @throws IllegalArgumentException if the name is not a behavior
+     */
+    default EnemyBuilder setAI(String aiBehavior) {
+        return setAI(AIBehavior.of(aiBehavior));
+    }
 
     // ============================================================
     // BOSS-SPECIFIC METHODS (some builders may ignore these)
@@ -86,4 +112,19 @@ public interface EnemyBuilder {
      * @throws IllegalStateException if mandatory fields are missing or invalid
      */
     Enemy build();
+
+    /**
+     * Validate once and freeze the current configuration into a blueprint
+     * that stamps instances cheaply. The builder stays usable.
+     *
+     * @throws IllegalStateException if mandatory fields are missing or invalid
+     */
+    default EnemyBlueprint compile() {
+        return EnemyBlueprint.of(build());
+    }
+
+    /**
+     * Forget everything set so far (stats, abilities, loot, phases, ...).
+     */
+    EnemyBuilder reset();
 }
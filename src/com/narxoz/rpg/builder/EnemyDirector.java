@@ -1,9 +1,13 @@
 package com.narxoz.rpg.builder;
 
-import com.narxoz.rpg.combat.FlameBreath;
-import com.narxoz.rpg.combat.FireShield;
 import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.ComponentFamily;
 import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.ThemedComponentFactory;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.OperationMetrics;
+
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Director class that creates preset enemy configurations using the Builder.
@@ -15,12 +19,44 @@ import com.narxoz.rpg.factory.EnemyComponentFactory;
  * - The Builder constructs the object step-by-step
  * - The Director uses a specific Builder polymorphically
  * - The build() method IS a Factory Method (creates different enemy types)
+ *
+ * Blueprints:
+ * Each preset is compiled (see EnemyBuilder.compile()) once per theme and
+ * cached, so createMinion(fire) runs the fluent chain, the factory calls
+ * and validation only the first time; every later call is one clone.
+ * Caches are keyed by the ComponentFamily of a ThemedComponentFactory
+ * (anything from ThemeRegistry, e.g. FireComponentFactory), so they hold
+ * at most one blueprint per registered theme and every factory of a theme
+ * shares it. Any other factory may be stateful, so its presets are
+ * compiled afresh on every call and never cached.
+ *
+ * Thread-safe: cached blueprints are read lock-free; compiling a missing
+ * one resets and drives the director's builder under its lock.
  */
 public class EnemyDirector {
 
-    private EnemyBuilder builder;
+    private static final OperationMetrics MINION_METRICS = Metrics.PRESETS.get("Minion");
+    private static final OperationMetrics ELITE_METRICS = Metrics.PRESETS.get("Elite");
+    private static final OperationMetrics MINI_BOSS_METRICS = Metrics.PRESETS.get("MiniBoss");
+    private static final OperationMetrics RAID_BOSS_METRICS = Metrics.PRESETS.get("RaidBoss");
+
+    private static final int MINION = 0;
+    private static final int ELITE = 1;
+    private static final int MINI_BOSS = 2;
+    private static final int RAID_BOSS = 3;
+
+    private final EnemyBuilder builder;
+
+    // preset -> (registered theme -> compiled preset)
+    private final ConcurrentHashMap<ComponentFamily, EnemyBlueprint> minions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ComponentFamily, EnemyBlueprint> elites = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ComponentFamily, EnemyBlueprint> miniBosses = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ComponentFamily, EnemyBlueprint> raidBosses = new ConcurrentHashMap<>();
 
     public EnemyDirector(EnemyBuilder builder) {
+        if (builder == null) {
+            throw new IllegalArgumentException("Builder cannot be null!");
+        }
         this.builder = builder;
     }
 
@@ -28,79 +64,153 @@ public class EnemyDirector {
      * Create a weak minion enemy.
      */
     public Enemy createMinion(EnemyComponentFactory factory) {
-        return builder
-            .setName("Minion")
-            .setHealth(50)
-            .setDamage(5)
-            .setDefense(2)
-            .setSpeed(20)
-            .setAbilities(factory.createAbilities())
-            .setLootTable(factory.createLootTable())
-            .setAI(factory.createAIBehavior())
-            .build();
+        long start = Metrics.start();
+        Enemy enemy = minionBlueprint(factory).create();
+        MINION_METRICS.stop(start);
+        return enemy;
     }
 
     /**
      * Create a medium-difficulty elite enemy.
      */
     public Enemy createElite(EnemyComponentFactory factory) {
-        return builder
-            .setName("Elite Enemy")
-            .setHealth(200)
-            .setDamage(20)
-            .setDefense(8)
-            .setSpeed(25)
-            .setAbilities(factory.createAbilities())
-            .setLootTable(factory.createLootTable())
-            .setAI(factory.createAIBehavior())
-            .build();
+        long start = Metrics.start();
+        Enemy enemy = eliteBlueprint(factory).create();
+        ELITE_METRICS.stop(start);
+        return enemy;
     }
 
     /**
      * Create a challenging mini-boss.
      */
     public Enemy createMiniBoss(EnemyComponentFactory factory) {
-        if (!(builder instanceof BossEnemyBuilder)) {
-            throw new IllegalStateException("MiniBoss requires BossEnemyBuilder!");
-        }
-
-        BossEnemyBuilder bossBuilder = (BossEnemyBuilder) builder;
-        bossBuilder
-            .setName("Mini Boss")
-            .setHealth(1000)
-            .setDamage(50)
-            .setDefense(15)
-            .setSpeed(30)
-            .addPhase(1, 1000)
-            .addPhase(2, 500)
-            .setAbilities(factory.createAbilities())
-            .setLootTable(factory.createLootTable())
-            .setAI(factory.createAIBehavior());
-        
-        return bossBuilder.build();
+        long start = Metrics.start();
+        Enemy enemy = miniBossBlueprint(factory).create();
+        MINI_BOSS_METRICS.stop(start);
+        return enemy;
     }
 
     /**
      * Create the ultimate raid boss.
      */
     public Enemy createRaidBoss(EnemyComponentFactory factory) {
-        if (!(builder instanceof BossEnemyBuilder)) {
-            throw new IllegalStateException("RaidBoss requires BossEnemyBuilder!");
+        long start = Metrics.start();
+        Enemy enemy = raidBossBlueprint(factory).create();
+        RAID_BOSS_METRICS.stop(start);
+        return enemy;
+    }
+
+    // ============================================================
+    // CACHED BLUEPRINTS
+    // ============================================================
+
+    public EnemyBlueprint minionBlueprint(EnemyComponentFactory factory) {
+        return blueprint(MINION, minions, factory);
+    }
+
+    public EnemyBlueprint eliteBlueprint(EnemyComponentFactory factory) {
+        return blueprint(ELITE, elites, factory);
+    }
+
+    /**
+     * @throws IllegalStateException if the director's builder is not a BossEnemyBuilder
+     */
+    public EnemyBlueprint miniBossBlueprint(EnemyComponentFactory factory) {
+        return blueprint(MINI_BOSS, miniBosses, factory);
+    }
+
+    /**
+     * @throws IllegalStateException if the director's builder is not a BossEnemyBuilder
+     */
+    public EnemyBlueprint raidBossBlueprint(EnemyComponentFactory factory) {
+        return blueprint(RAID_BOSS, raidBosses, factory);
+    }
+
+    private EnemyBlueprint blueprint(int preset, ConcurrentHashMap<ComponentFamily, EnemyBlueprint> cache,
+                                     EnemyComponentFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Component factory cannot be null!");
+        }
+        if (!(factory instanceof ThemedComponentFactory)) {
+            synchronized (builder) {
+                return configure(preset, factory).compile();
+            }
+        }
+        ComponentFamily family = ((ThemedComponentFactory) factory).getFamily();
+        EnemyBlueprint blueprint = cache.get(family);
+        if (blueprint != null) {
+            return blueprint;
         }
+        synchronized (builder) {
+            blueprint = cache.get(family);
+            if (blueprint == null) {
+                blueprint = configure(preset, factory).compile();
+                cache.put(family, blueprint);
+            }
+            return blueprint;
+        }
+    }
 
-        BossEnemyBuilder bossBuilder = (BossEnemyBuilder) builder;
-        return bossBuilder
-            .setName("Ancient Dragon")
-            .setHealth(10000)
-            .setDamage(200)
-            .setDefense(50)
-            .setSpeed(40)
-            .addPhase(1, 10000)
-            .addPhase(2, 5000)
-            .addPhase(3, 2500)
-            .setAbilities(factory.createAbilities())
-            .setLootTable(factory.createLootTable())
-            .setAI(factory.createAIBehavior())
-            .build();
+    /**
+     * Reset the builder and apply one preset. Caller holds the builder's lock.
+     */
+    private EnemyBuilder configure(int preset, EnemyComponentFactory factory) {
+        builder.reset();
+        switch (preset) {
+            case MINION:
+                return builder
+                    .setName("Minion")
+                    .setHealth(50)
+                    .setDamage(5)
+                    .setDefense(2)
+                    .setSpeed(20)
+                    .setAbilities(factory.createAbilities())
+                    .setLootTable(factory.createLootTable())
+                    .setAI(factory.createAIBehavior());
+            case ELITE:
+                return builder
+                    .setName("Elite Enemy")
+                    .setHealth(200)
+                    .setDamage(20)
+                    .setDefense(8)
+                    .setSpeed(25)
+                    .setAbilities(factory.createAbilities())
+                    .setLootTable(factory.createLootTable())
+                    .setAI(factory.createAIBehavior());
+            case MINI_BOSS:
+                return requireBossBuilder("MiniBoss")
+                    .setName("Mini Boss")
+                    .setHealth(1000)
+                    .setDamage(50)
+                    .setDefense(15)
+                    .setSpeed(30)
+                    .addPhase(1, 1000)
+                    .addPhase(2, 500)
+                    .setAbilities(factory.createAbilities())
+                    .setLootTable(factory.createLootTable())
+                    .setAI(factory.createAIBehavior());
+            case RAID_BOSS:
+                return requireBossBuilder("RaidBoss")
+                    .setName("Ancient Dragon")
+                    .setHealth(10000)
+                    .setDamage(200)
+                    .setDefense(50)
+                    .setSpeed(40)
+                    .addPhase(1, 10000)
+                    .addPhase(2, 5000)
+                    .addPhase(3, 2500)
+                    .setAbilities(factory.createAbilities())
+                    .setLootTable(factory.createLootTable())
+                    .setAI(factory.createAIBehavior());
+            default:
+                throw new IllegalArgumentException("Unknown preset: " + preset);
+        }
+    }
+
+    private BossEnemyBuilder requireBossBuilder(String preset) {
+        if (!(builder instanceof BossEnemyBuilder)) {
+            throw new IllegalStateException(preset + " requires BossEnemyBuilder!");
+        }
+        return (BossEnemyBuilder) builder;
     }
 }
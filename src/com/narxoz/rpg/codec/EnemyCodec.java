@@ -0,0 +1,578 @@
+package com.narxoz.rpg.codec;
+
+import com.narxoz.rpg.combat.AIBehavior;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.combat.Element;
+import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.enemy.PhaseTable;
+import com.narxoz.rpg.enemy.Skeleton;
+import com.narxoz.rpg.factory.ComponentFamily;
+import com.narxoz.rpg.factory.ThemeRegistry;
+import com.narxoz.rpg.loot.FireLootTable;
+import com.narxoz.rpg.loot.IceLootTable;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.loot.ShadowLootTable;
+import com.narxoz.rpg.loot.ThemedLootTable;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Versioned binary codec for Goblin, Skeleton and DragonBoss.
+ *
+ * Stream layout:
+ *   header  = magic "RPGE" (4 bytes), version (varint)
+ *   record  = length (varint), body
+ *   body    = kind (1 byte), name, health, damage, defense, speed,
+ *             ability count, ability catalog ids..., loot kind (1 byte)
+ *             [themed loot: theme name]
+ *             [Goblin, Skeleton: element, AI behavior]
+ *             [DragonBoss: element, phase count, (phase, threshold)...,
+ *              AI behavior, flags (bit 0 canFly, bit 1 breath), wingspan]
+ *   string  = varint (UTF-8 length + 1, 0 = null), UTF-8 bytes
+ * Element and AI behavior are one byte each, the Element / AIBehavior
+ * ordinal. Version 1 stored them as free-form strings; v1 streams still
+ * decode, and a v1 name that is no longer an Element / AIBehavior (e.g.
+ * "Lightning") decodes as NONE / NEUTRAL. From v2 on an unknown ordinal
+ * is corrupt data and is rejected. Goblin and Skeleton records carry them
+ * since v3; older records decode as NONE / NEUTRAL.
+ * Stats, phases and wingspan are zigzag varints, counts and ids plain
+ * varints, so a typical goblin takes about 17 bytes.
+ *
+ * Abilities are stored by AbilityCatalog id. Built-in ids are fixed; ids of
+ * abilities interned at runtime depend on registration order, so the
+ * reading process must register them in the same order.
+ * Loot of a ThemeRegistry theme is stored by theme name and decodes to that
+ * theme's shared table, so the reading process must register the theme too.
+ *
+ * Streaming:
+ * encode() and decode() work record by record on a caller's ByteBuffer and
+ * are all-or-nothing: if the buffer is too small (or holds only part of a
+ * record), they throw BufferOverflowException / BufferUnderflowException
+ * and leave the position where the record starts, so the caller can drain
+ * or refill the buffer and retry. writeAll()/readAll() do exactly that
+ * against channels. A codec instance keeps scratch state; use one per thread.
+ *
+ * Usage:
+ *   EnemyCodec codec = new EnemyCodec();
+ *   ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+ *   codec.writeHeader(buffer);
+ *   codec.encode(goblin, buffer);
+ *   buffer.flip();
+ *   codec.readHeader(buffer);
+ *   Enemy copy = codec.decode(buffer);
+ */
+public class EnemyCodec {
+
+    public static final int MAGIC = 0x52504745; // "RPGE"
+    public static final int VERSION = 3;
+
+    static final byte KIND_GOBLIN = 1;
+    static final byte KIND_SKELETON = 2;
+    static final byte KIND_DRAGON_BOSS = 3;
+
+    static final byte LOOT_NONE = 0;
+    static final byte LOOT_FIRE = 1;
+    static final byte LOOT_ICE = 2;
+    static final byte LOOT_SHADOW = 3;
+    static final byte LOOT_THEMED = 4; // followed by the ThemeRegistry theme name
+
+    // Loot tables are immutable, so every decoded enemy of a kind shares one
+    private static final LootTable FIRE_LOOT = new FireLootTable();
+    private static final LootTable ICE_LOOT = new IceLootTable();
+    private static final LootTable SHADOW_LOOT = new ShadowLootTable();
+
+    private int streamVersion = VERSION;
+    private byte[] scratch = new byte[64];
+
+    // ============================================
+    // HEADER
+    // ============================================
+
+    public void writeHeader(ByteBuffer out) {
+        out.putInt(MAGIC);
+        VarInts.putVarInt(out, VERSION);
+    }
+
+    /**
+     * Read and check a stream header; later decode() calls follow its version.
+     *
+     * @return The stream's format version
+     */
+    public int readHeader(ByteBuffer in) {
+        int start = in.position();
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not an enemy stream (bad magic)!");
+            }
+            int version = VarInts.getVarInt(in);
+            if (version < 1 || version > VERSION) {
+                throw new IllegalArgumentException("Unsupported enemy format version " + version + "!");
+            }
+            this.streamVersion = version;
+            return version;
+        } catch (RuntimeException e) {
+            in.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Follow a version read from somewhere other than a stream header
+     * (TemplatePack keeps it in the pack header).
+     */
+    void useVersion(int version) {
+        this.streamVersion = version;
+    }
+
+    // ============================================
+    // ENCODE
+    // ============================================
+
+    /**
+     * Append one record.
+     *
+     * @throws BufferOverflowException if it does not fit (position unchanged)
+     * @throws IllegalArgumentException for enemy types the format cannot hold
+     */
+    public void encode(Enemy enemy, ByteBuffer out) {
+        int start = out.position();
+        try {
+            out.put((byte) 0); // length placeholder, fixed up below
+            writeBody(enemy, out);
+            int bodyEnd = out.position();
+            int length = bodyEnd - start - 1;
+            int lengthSize = VarInts.varIntSize(length);
+            if (lengthSize > 1) {
+                if (out.remaining() < lengthSize - 1) {
+                    throw new BufferOverflowException();
+                }
+                int shift = lengthSize - 1;
+                for (int i = bodyEnd - 1; i > start; i--) {
+                    out.put(i + shift, out.get(i));
+                }
+                out.position(start);
+                VarInts.putVarInt(out, length);
+                out.position(bodyEnd + shift);
+            } else {
+                out.put(start, (byte) length);
+            }
+        } catch (BufferOverflowException e) {
+            out.position(start);
+            throw e;
+        }
+    }
+
+    private void writeBody(Enemy enemy, ByteBuffer out) {
+        byte kind = kindOf(enemy);
+        out.put(kind);
+        putString(out, enemy.getName());
+        VarInts.putSignedVarInt(out, enemy.getHealth());
+        VarInts.putSignedVarInt(out, enemy.getDamage());
+        VarInts.putSignedVarInt(out, enemy.getDefense());
+        VarInts.putSignedVarInt(out, enemy.getSpeed());
+        int abilityCount = enemy.abilityCount();
+        VarInts.putVarInt(out, abilityCount);
+        for (int i = 0; i < abilityCount; i++) {
+            VarInts.putVarInt(out, AbilityCatalog.idOf(enemy.abilityAt(i)));
+        }
+        byte lootKind = lootKindOf(enemy.getLootTable());
+        out.put(lootKind);
+        if (lootKind == LOOT_THEMED) {
+            putString(out, ((ThemedLootTable) enemy.getLootTable()).getTheme());
+        }
+
+        if (kind != KIND_DRAGON_BOSS) {
+            out.put((byte) enemy.getElement().ordinal());
+            out.put((byte) enemy.getAIBehavior().ordinal());
+        } else {
+            DragonBoss boss = (DragonBoss) enemy;
+            out.put((byte) boss.getElement().ordinal());
+            PhaseTable phases = boss.getPhaseTable();
+            VarInts.putVarInt(out, phases.size());
+            for (int i = 0; i < phases.size(); i++) {
+                VarInts.putSignedVarInt(out, phases.phaseNumberAt(i));
+                VarInts.putSignedVarInt(out, phases.thresholdAt(i));
+            }
+            out.put((byte) boss.getAIBehavior().ordinal());
+            out.put((byte) ((boss.canFly() ? 1 : 0) | (boss.hasBreathAttack() ? 2 : 0)));
+            VarInts.putSignedVarInt(out, boss.getWingspan());
+        }
+    }
+
+    private static byte kindOf(Enemy enemy) {
+        if (enemy instanceof DragonBoss) {
+            return KIND_DRAGON_BOSS;
+        }
+        if (enemy instanceof Goblin) {
+            return KIND_GOBLIN;
+        }
+        if (enemy instanceof Skeleton) {
+            return KIND_SKELETON;
+        }
+        throw new IllegalArgumentException("Cannot encode enemy type " + enemy.getClass().getSimpleName() + "!");
+    }
+
+    private static byte lootKindOf(LootTable lootTable) {
+        if (lootTable == null) {
+            return LOOT_NONE;
+        }
+        if (lootTable instanceof FireLootTable) {
+            return LOOT_FIRE;
+        }
+        if (lootTable instanceof IceLootTable) {
+            return LOOT_ICE;
+        }
+        if (lootTable instanceof ShadowLootTable) {
+            return LOOT_SHADOW;
+        }
+        if (lootTable instanceof ThemedLootTable
+                && ThemeRegistry.contains(((ThemedLootTable) lootTable).getTheme())) {
+            return LOOT_THEMED;
+        }
+        throw new IllegalArgumentException("Cannot encode loot type " + lootTable.getClass().getSimpleName() + "!");
+    }
+
+    // ============================================
+    // DECODE
+    // ============================================
+
+    /**
+     * Read one record.
+     *
+     * @throws BufferUnderflowException if the buffer holds only part of the
+     *         next record (position unchanged)
+     * @throws IllegalArgumentException if the record is corrupt
+     */
+    public Enemy decode(ByteBuffer in) {
+        int start = in.position();
+        int length;
+        try {
+            length = VarInts.getVarInt(in);
+        } catch (RuntimeException e) {
+            in.position(start);
+            throw e;
+        }
+        if (length < 0) {
+            in.position(start);
+            throw new IllegalArgumentException("Corrupt enemy record length!");
+        }
+        if (in.remaining() < length) {
+            in.position(start);
+            throw new BufferUnderflowException();
+        }
+        int end = in.position() + length;
+        try {
+            Enemy enemy = readBody(in);
+            if (in.position() != end) {
+                throw new IllegalArgumentException("Corrupt enemy record: " + (end - in.position())
+                        + " unread bytes!");
+            }
+            return enemy;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            in.position(start);
+            throw new IllegalArgumentException("Corrupt enemy record: body shorter than its length!");
+        } catch (IllegalArgumentException e) {
+            in.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Skip one record without building it.
+     *
+     * @return false if the buffer does not hold a whole record (position unchanged)
+     */
+    public boolean skip(ByteBuffer in) {
+        int start = in.position();
+        try {
+            int length = VarInts.getVarInt(in);
+            if (in.remaining() >= length) {
+                in.position(in.position() + length);
+                return true;
+            }
+        } catch (BufferUnderflowException e) {
+            // fall through
+        }
+        in.position(start);
+        return false;
+    }
+
+    private Enemy readBody(ByteBuffer in) {
+        byte kind = in.get();
+        String name = getString(in);
+        int health = VarInts.getSignedVarInt(in);
+        int damage = VarInts.getSignedVarInt(in);
+        int defense = VarInts.getSignedVarInt(in);
+        int speed = VarInts.getSignedVarInt(in);
+        int abilityCount = checkedCount(VarInts.getVarInt(in), in);
+
+        switch (kind) {
+            case KIND_GOBLIN: {
+                Goblin goblin = new Goblin(name);
+                goblin.setHealthValue(health);
+                goblin.setDamageValue(damage);
+                goblin.setDefenseValue(defense);
+                goblin.setSpeedValue(speed);
+                goblin.setAbilities(abilities(abilityCount, in));
+                goblin.setLootTable(lootOf(in.get(), in));
+                if (streamVersion >= 3) {
+                    goblin.setElement(Element.byOrdinal(in.get()));
+                    goblin.setAIBehavior(AIBehavior.byOrdinal(in.get()));
+                }
+                return goblin;
+            }
+            case KIND_SKELETON: {
+                Skeleton skeleton = new Skeleton(name);
+                skeleton.setHealthValue(health);
+                skeleton.setDamageValue(damage);
+                skeleton.setDefenseValue(defense);
+                skeleton.setSpeedValue(speed);
+                skeleton.setAbilities(abilities(abilityCount, in));
+                skeleton.setLootTable(lootOf(in.get(), in));
+                if (streamVersion >= 3) {
+                    skeleton.setElement(Element.byOrdinal(in.get()));
+                    skeleton.setAIBehavior(AIBehavior.byOrdinal(in.get()));
+                }
+                return skeleton;
+            }
+            case KIND_DRAGON_BOSS: {
+                List<Ability> abilities = abilities(abilityCount, in);
+                LootTable loot = lootOf(in.get(), in);
+                Element element = streamVersion >= 2 ? Element.byOrdinal(in.get()) : legacyElement(getString(in));
+                int phaseCount = checkedCount(VarInts.getVarInt(in), in);
+                int[] numbers = new int[phaseCount];
+                int[] thresholds = new int[phaseCount];
+                for (int i = 0; i < phaseCount; i++) {
+                    numbers[i] = VarInts.getSignedVarInt(in);
+                    thresholds[i] = VarInts.getSignedVarInt(in);
+                }
+                AIBehavior ai = streamVersion >= 2 ? AIBehavior.byOrdinal(in.get()) : legacyAI(getString(in));
+                byte flags = in.get();
+                int wingspan = VarInts.getSignedVarInt(in);
+                return new DragonBoss(name, health, damage, defense, speed, element, abilities,
+                        new PhaseTable(numbers, thresholds), loot, ai,
+                        (flags & 1) != 0, (flags & 2) != 0, wingspan);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown enemy kind " + kind + " (format v" + streamVersion + ")!");
+        }
+    }
+
+    /**
+     * v1 element string: free-form before the enum, so unknown names are NONE.
+     */
+    private static Element legacyElement(String name) {
+        try {
+            return Element.of(name);
+        } catch (IllegalArgumentException e) {
+            return Element.NONE;
+        }
+    }
+
+    /**
+     * v1 AI behavior string: free-form before the enum, so unknown names are NEUTRAL.
+     */
+    private static AIBehavior legacyAI(String name) {
+        try {
+            return AIBehavior.of(name);
+        } catch (IllegalArgumentException e) {
+            return AIBehavior.NEUTRAL;
+        }
+    }
+
+    private static Ability ability(int id) {
+        return AbilityCatalog.byId(id);
+    }
+
+    private static List<Ability> abilities(int count, ByteBuffer in) {
+        List<Ability> abilities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            abilities.add(ability(VarInts.getVarInt(in)));
+        }
+        return abilities;
+    }
+
+    private LootTable lootOf(byte kind, ByteBuffer in) {
+        switch (kind) {
+            case LOOT_NONE:
+                return null;
+            case LOOT_FIRE:
+                return FIRE_LOOT;
+            case LOOT_ICE:
+                return ICE_LOOT;
+            case LOOT_SHADOW:
+                return SHADOW_LOOT;
+            case LOOT_THEMED: {
+                String theme = getString(in);
+                ComponentFamily family = ThemeRegistry.family(theme);
+                if (family == null) {
+                    throw new IllegalArgumentException("Unknown loot theme '" + theme + "'!");
+                }
+                return family.getLootTable();
+            }
+            default:
+                throw new IllegalArgumentException("Unknown loot kind " + kind + "!");
+        }
+    }
+
+    /**
+     * Every counted element takes at least one byte: rejects absurd counts
+     * from corrupt data before allocating for them.
+     */
+    private static int checkedCount(int count, ByteBuffer in) {
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("Corrupt enemy record: count " + count + "!");
+        }
+        return count;
+    }
+
+    // ============================================
+    // STRINGS
+    // ============================================
+
+    private static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.put((byte) 0);
+            return;
+        }
+        int length = value.length();
+        boolean ascii = true;
+        for (int i = 0; i < length && ascii; i++) {
+            ascii = value.charAt(i) < 0x80;
+        }
+        if (ascii) {
+            VarInts.putVarInt(out, length + 1);
+            for (int i = 0; i < length; i++) {
+                out.put((byte) value.charAt(i));
+            }
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8); // rare: non-ASCII names
+        VarInts.putVarInt(out, bytes.length + 1);
+        out.put(bytes);
+    }
+
+    private String getString(ByteBuffer in) {
+        int encoded = VarInts.getVarInt(in);
+        if (encoded == 0) {
+            return null;
+        }
+        int length = encoded - 1;
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Corrupt enemy record: string length " + length + "!");
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            in.get(scratch, 0, length);
+            value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    // ============================================
+    // CHANNEL STREAMING
+    // ============================================
+
+    /**
+     * Write a header and every enemy through one reusable buffer.
+     *
+     * @param buffer Scratch buffer; must hold the largest record
+     */
+    public void writeAll(Iterable<? extends Enemy> enemies, WritableByteChannel channel, ByteBuffer buffer)
+            throws IOException {
+        buffer.clear();
+        writeHeader(buffer);
+        for (Enemy enemy : enemies) {
+            try {
+                encode(enemy, buffer);
+            } catch (BufferOverflowException e) {
+                drain(buffer, channel);
+                if (buffer.position() == 0 && !fits(enemy, buffer)) {
+                    throw new IllegalArgumentException("Enemy '" + enemy.getName() + "' is larger than the buffer!");
+                }
+            }
+        }
+        drain(buffer, channel);
+    }
+
+    private boolean fits(Enemy enemy, ByteBuffer buffer) {
+        try {
+            encode(enemy, buffer);
+            return true;
+        } catch (BufferOverflowException e) {
+            return false;
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Read a header and every record from a channel through one reusable buffer.
+     *
+     * @param buffer Scratch buffer; must hold the largest record
+     * @return Number of enemies read
+     */
+    public long readAll(ReadableByteChannel channel, ByteBuffer buffer, Consumer<? super Enemy> sink)
+            throws IOException {
+        buffer.clear();
+        boolean eof = false;
+        boolean headerRead = false;
+        long count = 0;
+        while (true) {
+            if (!eof && channel.read(buffer) < 0) {
+                eof = true;
+            }
+            buffer.flip();
+            if (!headerRead) {
+                if (buffer.remaining() < 5 && !eof) {
+                    buffer.compact();
+                    continue;
+                }
+                readHeader(buffer);
+                headerRead = true;
+            }
+            while (buffer.hasRemaining()) {
+                try {
+                    sink.accept(decode(buffer));
+                    count++;
+                } catch (BufferUnderflowException e) {
+                    break;
+                }
+            }
+            if (eof) {
+                if (buffer.hasRemaining()) {
+                    throw new IllegalArgumentException("Enemy stream ends in the middle of a record!");
+                }
+                return count;
+            }
+            if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+                throw new IllegalArgumentException("Enemy record is larger than the buffer!");
+            }
+            buffer.compact();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.narxoz.rpg.codec;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Read-only, memory-mapped template pack written by TemplatePackWriter.
+ *
+ * Opening a pack maps the file and checks its header; nothing else is
+ * read. Keys are found by binary search over the sorted slot table in the
+ * mapping, and decode(key) turns one record into a fresh Enemy on demand,
+ * so a registry backed by a pack (EnemyRegistry.attachPack) pays for a
+ * template only the first time its key is requested.
+ *
+ * Thread-safe: every lookup reads through its own view of the mapping.
+ *
+ * Usage:
+ *   TemplatePack pack = TemplatePack.open(Path.of("templates.pack"));
+ *   registry.attachPack(pack);
+ *   Enemy goblin = registry.createFromTemplate("goblin"); // decoded now
+ */
+public final class TemplatePack {
+
+    private static final ThreadLocal<EnemyCodec> CODECS = ThreadLocal.withInitial(EnemyCodec::new);
+
+    private final Path path;
+    private final ByteBuffer mapped;
+    private final int count;
+    private final int codecVersion;
+    private volatile Set<String> keys;
+
+    private TemplatePack(Path path, ByteBuffer mapped, int count, int codecVersion) {
+        this.path = path;
+        this.mapped = mapped;
+        this.count = count;
+        this.codecVersion = codecVersion;
+    }
+
+    /**
+     * Map a pack file.
+     *
+     * @throws IllegalArgumentException if the file is not a supported pack
+     */
+    public static TemplatePack open(Path path) throws IOException {
+        ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (mapped.limit() < TemplatePackWriter.HEADER_SIZE || mapped.getInt(0) != TemplatePackWriter.MAGIC) {
+            throw new IllegalArgumentException("'" + path + "' is not a template pack!");
+        }
+        int packVersion = mapped.getInt(4);
+        int codecVersion = mapped.getInt(8);
+        if (packVersion != TemplatePackWriter.PACK_VERSION || codecVersion < 1 || codecVersion > EnemyCodec.VERSION) {
+            throw new IllegalArgumentException("Unsupported template pack version " + packVersion
+                    + "/" + codecVersion + " in '" + path + "'!");
+        }
+        int count = mapped.getInt(12);
+        if (count < 0 || (long) TemplatePackWriter.HEADER_SIZE + (long) count * TemplatePackWriter.SLOT_SIZE
+                > mapped.limit()) {
+            throw new IllegalArgumentException("Corrupt template pack '" + path + "'!");
+        }
+        return new TemplatePack(path, mapped, count, codecVersion);
+    }
+
+    /**
+     * Decode the template stored under a key into a new Enemy.
+     *
+     * @return The decoded enemy, or null if the pack has no such key
+     */
+    public Enemy decode(String key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        ByteBuffer view = mapped.duplicate();
+        view.position(recordOffset(slot));
+        EnemyCodec codec = CODECS.get();
+        codec.useVersion(codecVersion);
+        return codec.decode(view);
+    }
+
+    public boolean contains(String key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * @return Unmodifiable set of every key in the pack (read on first call)
+     */
+    public Set<String> keys() {
+        Set<String> result = keys;
+        if (result == null) {
+            Set<String> all = new LinkedHashSet<>(count * 4 / 3 + 1);
+            ByteBuffer view = mapped.duplicate();
+            for (int slot = 0; slot < count; slot++) {
+                all.add(keyAt(view, slot));
+            }
+            result = Collections.unmodifiableSet(all);
+            keys = result;
+        }
+        return result;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Binary search of the sorted slot table.
+     *
+     * @return Slot index, or -1 if absent
+     */
+    private int find(String key) {
+        if (key == null || count == 0) {
+            return -1;
+        }
+        byte[] wanted = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer view = mapped.duplicate();
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareKey(view, mid, wanted);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compare the key in a slot with the wanted bytes (unsigned byte order).
+     */
+    private int compareKey(ByteBuffer view, int slot, byte[] wanted) {
+        view.position(mapped.getInt(TemplatePackWriter.HEADER_SIZE + slot * TemplatePackWriter.SLOT_SIZE));
+        int length = VarInts.getVarInt(view);
+        int start = view.position();
+        int common = Math.min(length, wanted.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(view.get(start + i) & 0xFF, wanted[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, wanted.length);
+    }
+
+    private String keyAt(ByteBuffer view, int slot) {
+        view.position(mapped.getInt(TemplatePackWriter.HEADER_SIZE + slot * TemplatePackWriter.SLOT_SIZE));
+        byte[] bytes = new byte[VarInts.getVarInt(view)];
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int recordOffset(int slot) {
+        return mapped.getInt(TemplatePackWriter.HEADER_SIZE + slot * TemplatePackWriter.SLOT_SIZE + Integer.BYTES);
+    }
+
+    @Override
+    public String toString() {
+        return "TemplatePack [" + path + ", " + count + " templates]";
+    }
+}
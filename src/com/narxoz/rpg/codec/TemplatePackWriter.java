@@ -0,0 +1,127 @@
+package com.narxoz.rpg.codec;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds a template pack file (see TemplatePack) from keyed templates.
+ *
+ * Layout (all offsets are absolute file positions, ints big-endian):
+ *   header  = magic "RPGP", pack version, EnemyCodec version, entry count
+ *   slots   = per entry, sorted by key bytes: key offset, record offset
+ *   keys    = per entry: varint UTF-8 length, UTF-8 bytes
+ *   records = one EnemyCodec record per entry
+ *
+ * The fixed-width sorted slot table lets a reader binary-search keys
+ * straight from the mapping, without parsing an index at open time.
+ *
+ * Usage (at build time, not at game start):
+ *   TemplatePackWriter writer = new TemplatePackWriter();
+ *   writer.add("goblin", goblinTemplate);
+ *   writer.add("fire_dragon", dragonTemplate);
+ *   writer.writeTo(Path.of("templates.pack"));
+ */
+public class TemplatePackWriter {
+
+    static final int MAGIC = 0x52504750; // "RPGP"
+    static final int PACK_VERSION = 1;
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+    static final int SLOT_SIZE = 2 * Integer.BYTES;
+
+    private final Map<String, Enemy> entries = new LinkedHashMap<>();
+
+    /**
+     * Add (or replace) one template. It is encoded when the pack is written.
+     */
+    public TemplatePackWriter add(String key, Enemy template) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Template key cannot be null or empty!");
+        }
+        if (template == null) {
+            throw new IllegalArgumentException("Template cannot be null!");
+        }
+        entries.put(key, template);
+        return this;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Write the pack, replacing any existing file.
+     */
+    public void writeTo(Path path) throws IOException {
+        int count = entries.size();
+        byte[][] keys = new byte[count][];
+        Enemy[] templates = new Enemy[count];
+        Integer[] order = new Integer[count];
+        int n = 0;
+        for (Map.Entry<String, Enemy> entry : entries.entrySet()) {
+            keys[n] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            templates[n] = entry.getValue();
+            order[n] = n;
+            n++;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(keys[a], keys[b]));
+
+        int keysStart = HEADER_SIZE + count * SLOT_SIZE;
+        int keysSize = 0;
+        for (byte[] key : keys) {
+            keysSize += VarInts.varIntSize(key.length) + key.length;
+        }
+        int recordsStart = keysStart + keysSize;
+
+        ByteBuffer head = ByteBuffer.allocate(recordsStart);
+        head.putInt(MAGIC).putInt(PACK_VERSION).putInt(EnemyCodec.VERSION).putInt(count);
+        ByteBuffer records = ByteBuffer.allocate(Math.max(1024, count * 64));
+        EnemyCodec codec = new EnemyCodec();
+        int keyPosition = keysStart;
+        for (int slot = 0; slot < count; slot++) {
+            int i = order[slot];
+            head.putInt(HEADER_SIZE + slot * SLOT_SIZE, keyPosition);
+            head.putInt(HEADER_SIZE + slot * SLOT_SIZE + Integer.BYTES, recordsStart + records.position());
+
+            head.position(keyPosition);
+            VarInts.putVarInt(head, keys[i].length);
+            head.put(keys[i]);
+            keyPosition = head.position();
+
+            while (true) {
+                try {
+                    codec.encode(templates[i], records);
+                    break;
+                } catch (BufferOverflowException e) {
+                    records = grow(records);
+                }
+            }
+        }
+
+        head.clear();
+        records.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] parts = {head, records};
+            while (head.hasRemaining() || records.hasRemaining()) {
+                channel.write(parts);
+            }
+        }
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer bigger = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        bigger.put(buffer);
+        return bigger;
+    }
+}
@@ -0,0 +1,71 @@
+package com.narxoz.rpg.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * LEB128 varints on ByteBuffers: 7 bits per byte, low bits first, high bit
+ * set on every byte but the last. Small values (most stats, counts and ids)
+ * take one or two bytes instead of four.
+ *
+ * Signed values go through zigzag encoding first (0, -1, 1, -2, ... map to
+ * 0, 1, 2, 3, ...) so small negative numbers stay small too.
+ */
+public final class VarInts {
+
+    private VarInts() {
+    }
+
+    /**
+     * Write an int as an unsigned varint (1 to 5 bytes).
+     */
+    public static void putVarInt(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * Read an unsigned varint written by putVarInt().
+     *
+     * @throws BufferUnderflowException if the buffer ends mid-value
+     * @throws IllegalArgumentException if the value is longer than 5 bytes
+     */
+    public static int getVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint!");
+    }
+
+    /**
+     * Write a signed int, zigzag + varint.
+     */
+    public static void putSignedVarInt(ByteBuffer out, int value) {
+        putVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    public static int getSignedVarInt(ByteBuffer in) {
+        int raw = getVarInt(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * @return Bytes putVarInt() needs for this value
+     */
+    public static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
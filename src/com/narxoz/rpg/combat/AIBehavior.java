@@ -0,0 +1,142 @@
+package com.narxoz.rpg.combat;
+
+/**
+ * How an enemy fights. Each theme's component factory picks one (see
+ * EnemyComponentFactory.createAIBehavior()).
+ *
+ * Stored as the enum, and as its ordinal in the codec and in Encounter.
+ * Names are case-insensitive at the data boundary (of()).
+ *
+ * Combat dispatches on the ordinal through a flat table of action
+ * handlers, one per behavior (pickAction()). An enemy without abilities
+ * always uses its basic attack; one with abilities picks:
+ * - NEUTRAL     uniformly between the basic attack and each ability
+ * - AGGRESSIVE  its strongest attack (the highest-damage ability, or the
+ *               basic attack if that hits harder); never guards
+ * - DEFENSIVE   the basic attack half the time, otherwise a uniform
+ *               ability (so it guards more often than it nukes)
+ * - TACTICAL    a guarding (0-damage) ability once at or below half
+ *               health, if it has one; otherwise like AGGRESSIVE
+ * A new behavior is a new handler in the table, not a branch in the
+ * simulator.
+ */
+public enum AIBehavior {
+
+    NEUTRAL,
+    AGGRESSIVE,
+    DEFENSIVE,
+    TACTICAL;
+
+    private static final AIBehavior[] VALUES = values();
+
+    /**
+     * Chooses what an enemy with abilities does on its turn.
+     */
+    interface ActionHandler {
+
+        /**
+         * @param actor Combatant index; has at least one ability
+         * @param health The actor's current health
+         * @return An ability index in [0, abilityCount), or abilityCount
+         *         for the basic attack
+         */
+        int pick(Encounter e, int actor, int health, SplitMix64 rng);
+    }
+
+    // HANDLERS[behavior ordinal]
+    private static final ActionHandler[] HANDLERS = new ActionHandler[VALUES.length];
+
+    static {
+        HANDLERS[NEUTRAL.ordinal()] = AIBehavior::neutral;
+        HANDLERS[AGGRESSIVE.ordinal()] = AIBehavior::aggressive;
+        HANDLERS[DEFENSIVE.ordinal()] = AIBehavior::defensive;
+        HANDLERS[TACTICAL.ordinal()] = AIBehavior::tactical;
+        for (AIBehavior behavior : VALUES) {
+            if (HANDLERS[behavior.ordinal()] == null) {
+                throw new IllegalStateException("AI behavior " + behavior + " has no action handler!");
+            }
+        }
+    }
+
+    /**
+     * Parse a behavior name, ignoring case.
+     *
+     * @return The behavior, or NEUTRAL for null or an empty name
+     * @throws IllegalArgumentException if the name is not a behavior
+     */
+    public static AIBehavior of(String name) {
+        if (name == null || name.isEmpty()) {
+            return NEUTRAL;
+        }
+        for (AIBehavior behavior : VALUES) {
+            if (behavior.name().equalsIgnoreCase(name)) {
+                return behavior;
+            }
+        }
+        throw new IllegalArgumentException("Unknown AI behavior '" + name + "'!");
+    }
+
+    /**
+     * @throws IllegalArgumentException if no behavior has this ordinal
+     */
+    public static AIBehavior byOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown AI behavior ordinal " + ordinal + "!");
+        }
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Pick an action through the handler table, by ordinal (no lookups, no
+     * allocation; used by CombatSimulator).
+     */
+    static int pickAction(int behavior, Encounter e, int actor, int health, SplitMix64 rng) {
+        return HANDLERS[behavior].pick(e, actor, health, rng);
+    }
+
+    // ============================================================
+    // ACTION HANDLERS
+    // ============================================================
+
+    private static int neutral(Encounter e, int actor, int health, SplitMix64 rng) {
+        return rng.nextInt(abilityCount(e, actor) + 1);
+    }
+
+    private static int aggressive(Encounter e, int actor, int health, SplitMix64 rng) {
+        int first = e.abilityStart[actor];
+        int count = abilityCount(e, actor);
+        int best = count;
+        int bestDamage = e.damage[actor];
+        for (int a = 0; a < count; a++) {
+            if (e.abilityDamage[first + a] > bestDamage) {
+                best = a;
+                bestDamage = e.abilityDamage[first + a];
+            }
+        }
+        return best;
+    }
+
+    private static int defensive(Encounter e, int actor, int health, SplitMix64 rng) {
+        // Basic attack weighs as much as all abilities together
+        int count = abilityCount(e, actor);
+        int roll = rng.nextInt(2 * count);
+        return roll < count ? roll : count;
+    }
+
+    private static int tactical(Encounter e, int actor, int health, SplitMix64 rng) {
+        if (health * 2 <= e.maxHealth[actor]) {
+            int first = e.abilityStart[actor];
+            int count = abilityCount(e, actor);
+            for (int a = 0; a < count; a++) {
+                if (e.abilityDamage[first + a] == 0) {
+                    return a;
+                }
+            }
+        }
+        return aggressive(e, actor, health, rng);
+    }
+
+    private static int abilityCount(Encounter e, int actor) {
+        return e.abilityStart[actor + 1] - e.abilityStart[actor];
+    }
+}
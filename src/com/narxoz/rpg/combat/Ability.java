@@ -10,10 +10,11 @@ package com.narxoz.rpg.combat;
  * - Ultimate abilities (Meteor Storm, Dark Nova)
  *
  * Prototype Pattern Note:
- * Abilities must be DEEP-COPYABLE! When you clone an enemy,
- * its abilities must also be cloned. Otherwise, two enemies
- * will share the same ability objects — and modifying one
- * will affect the other. This is a critical requirement.
+ * Abilities are IMMUTABLE flyweights. Because nothing about an ability can
+ * change after creation, two enemies sharing the same ability object can
+ * never affect each other. AbilityCatalog interns one instance per
+ * definition, and clone() simply returns that shared instance.
+ * Per-enemy ability state (e.g., cooldowns) belongs outside Ability.
  *
  * TODO: Define what all abilities have in common.
  * Think about:
@@ -46,10 +47,10 @@ public interface Ability {
     String getDescription();
 
     /**
-     * Creates a deep copy of this ability for Prototype pattern.
-     * CRITICAL: Must be a true independent copy!
+     * Copy for Prototype pattern.
+     * Abilities are immutable, so implementations may return this.
      *
-     * @return A new Ability instance with the same properties
+     * @return An Ability with the same properties (possibly this instance)
      */
     Ability clone();
 
@@ -0,0 +1,133 @@
+package com.narxoz.rpg.combat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Flyweight catalog of ability definitions.
+ *
+ * Abilities are immutable (name, damage, description never change), so one
+ * shared instance per definition is enough for every enemy in the game.
+ * The catalog interns those instances and gives each one a small, dense
+ * integer id that compact structures (stores, save files) can use instead
+ * of an object reference.
+ *
+ * Per-enemy ability STATE (cooldowns, charges...) must NOT be added to the
+ * Ability objects themselves; keep it in a separate per-enemy structure
+ * indexed by catalog id.
+ *
+ * Usage:
+ *   Ability breath = AbilityCatalog.FLAME_BREATH;       // shared instance
+ *   int id = AbilityCatalog.idOf(breath);                // 0
+ *   Ability same = AbilityCatalog.byId(id);              // same object
+ *   Ability interned = AbilityCatalog.intern(new FlameBreath()); // == FLAME_BREATH
+ */
+public final class AbilityCatalog {
+
+    private static final Object LOCK = new Object();
+    private static final Map<String, Integer> idsByName = new HashMap<>();
+    private static volatile Ability[] byId = new Ability[0];
+    // Copy-on-write snapshot, never mutated once published: lock-free idOf()
+    private static volatile Map<Ability, Integer> idsByInstance = new IdentityHashMap<>();
+
+    // Built-in abilities. Registration order fixes their ids, append only!
+    public static final Ability FLAME_BREATH = intern(new FlameBreath());
+    public static final Ability FIRE_SHIELD = intern(new FireShield());
+    public static final Ability FROST_BREATH = intern(new FrostBreath());
+    public static final Ability ICE_SHIELD = intern(new IceShield());
+    public static final Ability SHADOW_STRIKE = intern(new ShadowStrike());
+    public static final Ability VANISH = intern(new Vanish());
+
+    private AbilityCatalog() {
+    }
+
+    /**
+     * Return the shared instance for this ability definition, registering
+     * it if its name has not been seen before.
+     *
+     * @throws IllegalArgumentException if an ability with the same name but
+     *         a different definition (class, damage, description) is
+     *         already registered
+     */
+    public static Ability intern(Ability ability) {
+        if (ability == null) {
+            throw new IllegalArgumentException("Ability cannot be null!");
+        }
+        synchronized (LOCK) {
+            Integer id = idsByName.get(ability.getName());
+            if (id != null) {
+                Ability existing = byId[id];
+                if (existing != ability && !sameDefinition(existing, ability)) {
+                    throw new IllegalArgumentException("Ability '" + ability.getName()
+                            + "' is already registered with a different definition!");
+                }
+                return existing;
+            }
+            Ability[] grown = Arrays.copyOf(byId, byId.length + 1);
+            grown[grown.length - 1] = ability;
+            Map<Ability, Integer> ids = new IdentityHashMap<>(idsByInstance);
+            ids.put(ability, grown.length - 1);
+            idsByName.put(ability.getName(), grown.length - 1);
+            idsByInstance = ids;
+            byId = grown;
+            return ability;
+        }
+    }
+
+    private static boolean sameDefinition(Ability a, Ability b) {
+        return a.getClass() == b.getClass()
+                && a.getDamage() == b.getDamage()
+                && Objects.equals(a.getDescription(), b.getDescription());
+    }
+
+    /**
+     * @return The shared ability with this id
+     * @throws IllegalArgumentException if no ability has this id
+     */
+    public static Ability byId(int id) {
+        Ability[] snapshot = byId;
+        if (id < 0 || id >= snapshot.length) {
+            throw new IllegalArgumentException("Unknown ability id: " + id);
+        }
+        return snapshot[id];
+    }
+
+    /**
+     * @return The shared ability with this name, or null if none is registered
+     */
+    public static Ability byName(String name) {
+        synchronized (LOCK) {
+            Integer id = idsByName.get(name);
+            return id != null ? byId[id] : null;
+        }
+    }
+
+    /**
+     * @return The catalog id of this ability's definition
+     * @throws IllegalArgumentException if the ability was never interned
+     */
+    public static int idOf(Ability ability) {
+        // Fast path: catalog instances, one identity lookup, no locking
+        Integer interned = idsByInstance.get(ability);
+        if (interned != null) {
+            return interned;
+        }
+        synchronized (LOCK) {
+            Integer id = idsByName.get(ability.getName());
+            if (id == null) {
+                throw new IllegalArgumentException("Ability '" + ability.getName() + "' is not in the catalog!");
+            }
+            return id;
+        }
+    }
+
+    /**
+     * @return Number of interned ability definitions
+     */
+    public static int size() {
+        return byId.length;
+    }
+}
@@ -0,0 +1,91 @@
+package com.narxoz.rpg.combat;
+
+import java.util.Arrays;
+
+/**
+ * Elemental type of an enemy (or hero). Stored as its ordinal wherever
+ * space or speed matters: a byte per enemy in EnemyStore and the codec,
+ * an int per combatant in Encounter.
+ *
+ * Resistances are a flat ordinal-indexed table of damage percentages,
+ * attacker element by defender element:
+ * - every element takes 50% from its own element
+ * - FIRE deals 150% to ICE, ICE deals 50% to FIRE
+ * - everything else, and anything involving NONE, is 100%
+ *
+ * Names are case-insensitive at the data boundary (of()); everything past
+ * it passes the enum.
+ */
+public enum Element {
+
+    NONE,
+    FIRE,
+    ICE,
+    SHADOW;
+
+    private static final Element[] VALUES = values();
+    private static final int COUNT = VALUES.length;
+
+    // DAMAGE_PERCENT[attacker * COUNT + defender]
+    private static final int[] DAMAGE_PERCENT = new int[COUNT * COUNT];
+
+    static {
+        Arrays.fill(DAMAGE_PERCENT, 100);
+        for (Element element : VALUES) {
+            if (element != NONE) {
+                set(element, element, 50);
+            }
+        }
+        set(FIRE, ICE, 150);
+        set(ICE, FIRE, 50);
+    }
+
+    private static void set(Element attacker, Element defender, int percent) {
+        DAMAGE_PERCENT[attacker.ordinal() * COUNT + defender.ordinal()] = percent;
+    }
+
+    /**
+     * Parse an element name, ignoring case.
+     *
+     * @return The element, or NONE for null or an empty name
+     * @throws IllegalArgumentException if the name is not an element
+     */
+    public static Element of(String name) {
+        if (name == null || name.isEmpty()) {
+            return NONE;
+        }
+        for (Element element : VALUES) {
+            if (element.name().equalsIgnoreCase(name)) {
+                return element;
+            }
+        }
+        throw new IllegalArgumentException("Unknown element '" + name + "'!");
+    }
+
+    /**
+     * @throws IllegalArgumentException if no element has this ordinal
+     */
+    public static Element byOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= COUNT) {
+            throw new IllegalArgumentException("Unknown element ordinal " + ordinal + "!");
+        }
+        return VALUES[ordinal];
+    }
+
+    /**
+     * @return Percent of this element's damage that a defender of the given
+     *         element takes (100 = neutral)
+     */
+    public int damagePercentAgainst(Element defender) {
+        return DAMAGE_PERCENT[ordinal() * COUNT + defender.ordinal()];
+    }
+
+    /**
+     * Scale damage by the resistance table, by ordinal (no lookups, no
+     * allocation; used by CombatSimulator).
+     */
+    static int scaleDamage(int damage, int attacker, int defender) {
+        int percent = DAMAGE_PERCENT[attacker * COUNT + defender];
+        return percent == 100 ? damage : damage * percent / 100;
+    }
+}
@@ -0,0 +1,116 @@
+package com.narxoz.rpg.combat;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A prepared fight: one party against a group of enemies.
+ *
+ * Preparing reads every combatant ONCE (stats, element, AI behavior,
+ * ability damage) into flat primitive arrays and precomputes the turn
+ * order. The CombatSimulator
+ * then replays the encounter as often as needed without touching the
+ * Enemy objects again. Immutable, so one Encounter can be simulated by
+ * many threads at once.
+ *
+ * Combatants are indexed heroes first: [0, heroCount) are heroes,
+ * [heroCount, combatantCount) are enemies.
+ */
+public final class Encounter {
+
+    final int heroCount;
+    final int combatantCount;
+    final String[] names;
+    final int[] maxHealth;
+    final int[] damage;
+    final int[] defense;
+    final int[] speed;
+    final int[] element; // Element ordinal, indexes the resistance table
+    final int[] behavior; // AIBehavior ordinal, indexes the action handler table
+    // Abilities of combatant i: abilityDamage[abilityStart[i] .. abilityStart[i + 1])
+    final int[] abilityStart;
+    final int[] abilityDamage;
+    // Combatant indices, fastest first (heroes win speed ties)
+    final int[] turnOrder;
+
+    public Encounter(Party party, List<? extends Enemy> enemies) {
+        if (party == null || party.size() == 0) {
+            throw new IllegalArgumentException("Encounter needs at least one hero!");
+        }
+        if (enemies == null || enemies.isEmpty()) {
+            throw new IllegalArgumentException("Encounter needs at least one enemy!");
+        }
+        this.heroCount = party.size();
+        this.combatantCount = heroCount + enemies.size();
+        this.names = new String[combatantCount];
+        this.maxHealth = new int[combatantCount];
+        this.damage = new int[combatantCount];
+        this.defense = new int[combatantCount];
+        this.speed = new int[combatantCount];
+        this.element = new int[combatantCount];
+        this.behavior = new int[combatantCount];
+        this.abilityStart = new int[combatantCount + 1];
+
+        for (int i = 0; i < heroCount; i++) {
+            names[i] = party.heroNameAt(i);
+            maxHealth[i] = party.healthAt(i);
+            damage[i] = party.damageAt(i);
+            defense[i] = party.defenseAt(i);
+            speed[i] = party.speedAt(i);
+            element[i] = party.elementAt(i).ordinal();
+            behavior[i] = AIBehavior.NEUTRAL.ordinal();
+        }
+
+        int[] abilities = new int[8];
+        int abilityCount = 0;
+        for (int e = 0; e < enemies.size(); e++) {
+            Enemy enemy = enemies.get(e);
+            int i = heroCount + e;
+            names[i] = enemy.getName();
+            maxHealth[i] = enemy.getHealth();
+            damage[i] = enemy.getDamage();
+            defense[i] = enemy.getDefense();
+            speed[i] = enemy.getSpeed();
+            element[i] = enemy.getElement().ordinal();
+            behavior[i] = enemy.getAIBehavior().ordinal();
+            abilityStart[i] = abilityCount;
+            for (int a = 0, n = enemy.abilityCount(); a < n; a++) {
+                if (abilityCount == abilities.length) {
+                    abilities = Arrays.copyOf(abilities, abilityCount * 2);
+                }
+                abilities[abilityCount++] = enemy.abilityAt(a).getDamage();
+            }
+        }
+        // Heroes have no abilities: their abilityStart entries stay 0 (empty ranges)
+        abilityStart[combatantCount] = abilityCount;
+        this.abilityDamage = Arrays.copyOf(abilities, abilityCount);
+
+        Integer[] order = new Integer[combatantCount];
+        for (int i = 0; i < combatantCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> speed[a] != speed[b] ? Integer.compare(speed[b], speed[a]) : Integer.compare(a, b));
+        this.turnOrder = new int[combatantCount];
+        for (int i = 0; i < combatantCount; i++) {
+            turnOrder[i] = order[i];
+        }
+    }
+
+    public static Encounter of(Party party, Enemy... enemies) {
+        return new Encounter(party, Arrays.asList(enemies));
+    }
+
+    public int heroCount() {
+        return heroCount;
+    }
+
+    public int enemyCount() {
+        return combatantCount - heroCount;
+    }
+
+    public String combatantName(int index) {
+        return names[index];
+    }
+}
@@ -0,0 +1,50 @@
+package com.narxoz.rpg.combat;
+
+/**
+ * Outcome of one simulated fight.
+ *
+ * Mutable and reused: the simulator overwrites the same instance on every
+ * fight so the simulation loop never allocates.
+ */
+public final class FightResult {
+
+    public enum Outcome {
+        PARTY_WON,
+        ENEMIES_WON,
+        DRAW
+    }
+
+    Outcome outcome;
+    int rounds;
+    int heroesAlive;
+    int enemiesAlive;
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public boolean partyWon() {
+        return outcome == Outcome.PARTY_WON;
+    }
+
+    /**
+     * @return Rounds played (time-to-kill when the party won)
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getHeroesAlive() {
+        return heroesAlive;
+    }
+
+    public int getEnemiesAlive() {
+        return enemiesAlive;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FightResult [%s after %d rounds, heroes alive: %d, enemies alive: %d]",
+                outcome, rounds, heroesAlive, enemiesAlive);
+    }
+}
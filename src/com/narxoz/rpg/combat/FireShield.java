@@ -6,9 +6,9 @@ package com.narxoz.rpg.combat;
  */
 public class FireShield implements Ability {
 
-    private String name = "Fire Shield";
-    private int damage = 0; // Defensive ability, no direct damage
-    private String description = "Create a defensive shield of flames that reflects 30% of incoming fire damage";
+    private final String name = "Fire Shield";
+    private final int damage = 0; // Defensive ability, no direct damage
+    private final String description = "Create a defensive shield of flames that reflects 30% of incoming fire damage";
 
     @Override
     public String getName() {
@@ -27,7 +27,8 @@ public class FireShield implements Ability {
 
     @Override
     public Ability clone() {
-        return new FireShield();
+        // Immutable flyweight: every copy would be identical, share this one
+        return this;
     }
 
     @Override
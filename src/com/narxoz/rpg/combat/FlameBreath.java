@@ -6,9 +6,9 @@ package com.narxoz.rpg.combat;
  */
 public class FlameBreath implements Ability {
 
-    private String name = "Flame Breath";
-    private int damage = 150;
-    private String description = "Breathe a massive cone of fire, dealing AoE damage and applying burn effect";
+    private final String name = "Flame Breath";
+    private final int damage = 150;
+    private final String description = "Breathe a massive cone of fire, dealing AoE damage and applying burn effect";
 
     @Override
     public String getName() {
@@ -27,7 +27,8 @@ public class FlameBreath implements Ability {
 
     @Override
     public Ability clone() {
-        return new FlameBreath();
+        // Immutable flyweight: every copy would be identical, share this one
+        return this;
     }
 
     @Override
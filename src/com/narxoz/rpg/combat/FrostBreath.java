@@ -6,9 +6,9 @@ package com.narxoz.rpg.combat;
  */
 public class FrostBreath implements Ability {
 
-    private String name = "Frost Breath";
-    private int damage = 120;
-    private String description = "Exhale a freezing breath, dealing damage and slowing enemy movement by 50%";
+    private final String name = "Frost Breath";
+    private final int damage = 120;
+    private final String description = "Exhale a freezing breath, dealing damage and slowing enemy movement by 50%";
 
     @Override
     public String getName() {
@@ -27,7 +27,8 @@ public class FrostBreath implements Ability {
 
     @Override
     public Ability clone() {
-        return new FrostBreath();
+        // Immutable flyweight: every copy would be identical, share this one
+        return this;
     }
 
     @Override
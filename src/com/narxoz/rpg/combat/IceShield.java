@@ -6,9 +6,9 @@ package com.narxoz.rpg.combat;
  */
 public class IceShield implements Ability {
 
-    private String name = "Ice Shield";
-    private int damage = 0; // Defensive ability, no direct damage
-    private String description = "Form a shield of ice that freezes attackers for 2 seconds";
+    private final String name = "Ice Shield";
+    private final int damage = 0; // Defensive ability, no direct damage
+    private final String description = "Form a shield of ice that freezes attackers for 2 seconds";
 
     @Override
     public String getName() {
@@ -27,7 +27,8 @@ public class IceShield implements Ability {
 
     @Override
     public Ability clone() {
-        return new IceShield();
+        // Immutable flyweight: every copy would be identical, share this one
+        return this;
     }
 
     @Override
@@ -0,0 +1,106 @@
+package com.narxoz.rpg.combat;
+
+import java.util.Arrays;
+
+/**
+ * A party of heroes for combat simulation.
+ *
+ * Heroes live in another project (Homework 1), so the simulator only needs
+ * their combat stats. Stored as parallel primitive arrays.
+ *
+ * Usage:
+ *   Party party = new Party("Trio")
+ *       .addHero("Warrior", 1200, 90, 40, 25)
+ *       .addHero("Mage", 700, 160, 10, 30)
+ *       .addHero("Archer", 850, 120, 20, 45);
+ */
+public class Party {
+
+    private final String name;
+    private String[] heroNames = new String[4];
+    private int[] health = new int[4];
+    private int[] damage = new int[4];
+    private int[] defense = new int[4];
+    private int[] speed = new int[4];
+    private byte[] element = new byte[4]; // Element ordinal
+    private int size;
+
+    public Party(String name) {
+        this.name = name;
+    }
+
+    public Party addHero(String heroName, int health, int damage, int defense, int speed) {
+        return addHero(heroName, health, damage, defense, speed, Element.NONE);
+    }
+
+    /**
+     * Add a hero with an element: its attacks and the damage it takes go
+     * through the Element resistance table.
+     */
+    public Party addHero(String heroName, int health, int damage, int defense, int speed, Element element) {
+        if (health <= 0) {
+            throw new IllegalArgumentException("Hero health must be positive!");
+        }
+        if (size == heroNames.length) {
+            int capacity = size * 2;
+            heroNames = Arrays.copyOf(heroNames, capacity);
+            this.health = Arrays.copyOf(this.health, capacity);
+            this.damage = Arrays.copyOf(this.damage, capacity);
+            this.defense = Arrays.copyOf(this.defense, capacity);
+            this.speed = Arrays.copyOf(this.speed, capacity);
+            this.element = Arrays.copyOf(this.element, capacity);
+        }
+        heroNames[size] = heroName;
+        this.health[size] = health;
+        this.damage[size] = damage;
+        this.defense[size] = defense;
+        this.speed[size] = speed;
+        this.element[size] = (byte) (element != null ? element : Element.NONE).ordinal();
+        size++;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String heroNameAt(int index) {
+        return heroNames[checkIndex(index)];
+    }
+
+    public int healthAt(int index) {
+        return health[checkIndex(index)];
+    }
+
+    public int damageAt(int index) {
+        return damage[checkIndex(index)];
+    }
+
+    public int defenseAt(int index) {
+        return defense[checkIndex(index)];
+    }
+
+    public int speedAt(int index) {
+        return speed[checkIndex(index)];
+    }
+
+    public Element elementAt(int index) {
+        return Element.byOrdinal(element[checkIndex(index)]);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Hero index " + index + " out of " + size);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "Party [" + name + ", " + size + " heroes]";
+    }
+}
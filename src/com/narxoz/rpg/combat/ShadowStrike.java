@@ -6,9 +6,9 @@ package com.narxoz.rpg.combat;
  */
 public class ShadowStrike implements Ability {
 
-    private String name = "Shadow Strike";
-    private int damage = 180;
-    private String description = "Strike from the shadows with deadly precision, blinding the target for 1 attack";
+    private final String name = "Shadow Strike";
+    private final int damage = 180;
+    private final String description = "Strike from the shadows with deadly precision, blinding the target for 1 attack";
 
     @Override
     public String getName() {
@@ -27,7 +27,8 @@ public class ShadowStrike implements Ability {
 
     @Override
     public Ability clone() {
-        return new ShadowStrike();
+        // Immutable flyweight: every copy would be identical, share this one
+        return this;
     }
 
     @Override
@@ -6,9 +6,9 @@ package com.narxoz.rpg.combat;
  */
 public class Vanish implements Ability {
 
-    private String name = "Vanish";
-    private int damage = 0; // Defensive ability, no direct damage
-    private String description = "Melt into the shadows, increasing evasion chance to 60% for 3 turns";
+    private final String name = "Vanish";
+    private final int damage = 0; // Defensive ability, no direct damage
+    private final String description = "Melt into the shadows, increasing evasion chance to 60% for 3 turns";
 
     @Override
     public String getName() {
@@ -27,7 +27,8 @@ public class Vanish implements Ability {
 
     @Override
     public Ability clone() {
-        return new Vanish();
+        // Immutable flyweight: every copy would be identical, share this one
+        return this;
     }
 
     @Override
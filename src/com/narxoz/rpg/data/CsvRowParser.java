@@ -0,0 +1,109 @@
+package com.narxoz.rpg.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180-style CSV: comma separated, fields optionally double-quoted,
+ * "" inside quotes for a literal quote. A record must fit on one line
+ * (quoted line breaks are not supported), which is what lets the loader
+ * split a file into chunks at any line break.
+ *
+ * Columns are matched by the header line, in any order; unknown columns
+ * are ignored.
+ */
+final class CsvRowParser implements RowParser {
+
+    private static final ThreadLocal<StringBuilder> FIELD = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final TemplateColumn[] columns; // by position, null = ignored
+
+    CsvRowParser(String headerLine) {
+        List<String> names = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i <= headerLine.length(); i++) {
+            i = nextField(headerLine, i, field);
+            names.add(field.toString());
+        }
+        this.columns = new TemplateColumn[names.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = TemplateColumn.forField(names.get(i));
+        }
+        requireColumn(TemplateColumn.KEY);
+        requireColumn(TemplateColumn.TYPE);
+        requireColumn(TemplateColumn.NAME);
+        requireColumn(TemplateColumn.HEALTH);
+    }
+
+    private void requireColumn(TemplateColumn column) {
+        for (TemplateColumn c : columns) {
+            if (c == column) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException("CSV header has no '" + column.fieldName + "' column!");
+    }
+
+    @Override
+    public void parse(String line, TemplateRow row) {
+        StringBuilder field = FIELD.get();
+        int index = 0;
+        for (int i = 0; i <= line.length(); i++, index++) {
+            i = nextField(line, i, field);
+            if (index >= columns.length) {
+                throw new IllegalArgumentException("Row has more fields than the header (" + columns.length + ")!");
+            }
+            if (columns[index] != null) {
+                row.set(columns[index], field.toString());
+            }
+        }
+    }
+
+    /**
+     * Read the field starting at 'from' into 'out'.
+     *
+     * @return Index of the comma ending the field, or line.length()
+     */
+    private static int nextField(String line, int from, StringBuilder out) {
+        out.setLength(0);
+        int length = line.length();
+        int i = from;
+        while (i < length && line.charAt(i) == ' ') {
+            i++;
+        }
+        if (i < length && line.charAt(i) == '"') {
+            i++;
+            while (true) {
+                if (i >= length) {
+                    throw new IllegalArgumentException("Unterminated quoted field!");
+                }
+                char c = line.charAt(i++);
+                if (c != '"') {
+                    out.append(c);
+                } else if (i < length && line.charAt(i) == '"') {
+                    out.append('"');
+                    i++;
+                } else {
+                    break;
+                }
+            }
+            while (i < length && line.charAt(i) == ' ') {
+                i++;
+            }
+            if (i < length && line.charAt(i) != ',') {
+                throw new IllegalArgumentException("Unexpected text after a quoted field!");
+            }
+            return i;
+        }
+        int end = line.indexOf(',', i);
+        if (end < 0) {
+            end = length;
+        }
+        int last = end;
+        while (last > i && line.charAt(last - 1) == ' ') {
+            last--;
+        }
+        out.append(line, i, last);
+        return end;
+    }
+}
@@ -0,0 +1,203 @@
+package com.narxoz.rpg.data;
+
+/**
+ * JSON Lines: one flat object per line, e.g.
+ *
+ *   {"key":"fire_dragon","type":"boss","name":"Fire Dragon","health":50000,
+ *    "theme":"fire","phases":["1:50000","2:30000"],"abilities":["Vanish"]}
+ *
+ * Known fields take strings, numbers, booleans or arrays of those; an array
+ * becomes the same ';'-joined text the CSV columns use. Unknown fields are
+ * skipped whatever their value. null means "not set".
+ */
+final class JsonLineRowParser implements RowParser {
+
+    static final JsonLineRowParser INSTANCE = new JsonLineRowParser();
+
+    private static final ThreadLocal<StringBuilder> VALUE = ThreadLocal.withInitial(StringBuilder::new);
+
+    private JsonLineRowParser() {
+    }
+
+    @Override
+    public void parse(String line, TemplateRow row) {
+        Cursor in = new Cursor(line);
+        StringBuilder value = VALUE.get();
+        in.expect('{');
+        if (!in.consume('}')) {
+            do {
+                String field = in.string(new StringBuilder()).toString();
+                in.expect(':');
+                TemplateColumn column = TemplateColumn.forField(field);
+                if (column == null) {
+                    in.skipValue();
+                } else {
+                    value.setLength(0);
+                    if (in.scalarOrArray(value)) {
+                        row.set(column, value.toString());
+                    }
+                }
+            } while (in.consume(','));
+            in.expect('}');
+        }
+        in.skipSpaces();
+        if (!in.atEnd()) {
+            throw new IllegalArgumentException("Unexpected text after the object at column " + in.pos + "!");
+        }
+    }
+
+    /**
+     * Position within one line.
+     */
+    private static final class Cursor {
+
+        final String text;
+        int pos;
+
+        Cursor(String text) {
+            this.text = text;
+        }
+
+        boolean atEnd() {
+            return pos >= text.length();
+        }
+
+        void skipSpaces() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        char peek() {
+            skipSpaces();
+            if (atEnd()) {
+                throw new IllegalArgumentException("Unexpected end of line!");
+            }
+            return text.charAt(pos);
+        }
+
+        boolean consume(char c) {
+            if (peek() == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void expect(char c) {
+            if (!consume(c)) {
+                throw new IllegalArgumentException("Expected '" + c + "' at column " + pos + "!");
+            }
+        }
+
+        /**
+         * Append a scalar, or the ';'-joined scalars of an array.
+         *
+         * @return false for null
+         */
+        boolean scalarOrArray(StringBuilder out) {
+            if (!consume('[')) {
+                return scalar(out);
+            }
+            if (!consume(']')) {
+                do {
+                    if (out.length() > 0) {
+                        out.append(';');
+                    }
+                    if (peek() == '[' || peek() == '{') {
+                        throw new IllegalArgumentException("Nested values are not supported at column " + pos + "!");
+                    }
+                    scalar(out);
+                } while (consume(','));
+                expect(']');
+            }
+            return true;
+        }
+
+        boolean scalar(StringBuilder out) {
+            char c = peek();
+            if (c == '"') {
+                string(out);
+                return true;
+            }
+            int start = pos;
+            while (pos < text.length() && "-+.eE0123456789truefalsn".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+            String literal = text.substring(start, pos);
+            if (literal.equals("null")) {
+                return false;
+            }
+            if (literal.isEmpty() || (!literal.equals("true") && !literal.equals("false")
+                    && !Character.isDigit(literal.charAt(literal.length() - 1)))) {
+                throw new IllegalArgumentException("Bad value at column " + start + "!");
+            }
+            out.append(literal);
+            return true;
+        }
+
+        StringBuilder string(StringBuilder out) {
+            expect('"');
+            while (true) {
+                if (atEnd()) {
+                    throw new IllegalArgumentException("Unterminated string!");
+                }
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return out;
+                }
+                if (c != '\\') {
+                    out.append(c);
+                    continue;
+                }
+                if (atEnd()) {
+                    throw new IllegalArgumentException("Unterminated string!");
+                }
+                char escaped = text.charAt(pos++);
+                switch (escaped) {
+                    case 'n': out.append('\n'); break;
+                    case 't': out.append('\t'); break;
+                    case 'r': out.append('\r'); break;
+                    case 'b': out.append('\b'); break;
+                    case 'f': out.append('\f'); break;
+                    case 'u':
+                        if (pos + 4 > text.length()) {
+                            throw new IllegalArgumentException("Bad \\u escape!");
+                        }
+                        try {
+                            out.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("Bad \\u escape!");
+                        }
+                        pos += 4;
+                        break;
+                    default: out.append(escaped); break;
+                }
+            }
+        }
+
+        /**
+         * Skip any value, including nested objects and arrays.
+         */
+        void skipValue() {
+            char c = peek();
+            if (c == '{' || c == '[') {
+                char close = c == '{' ? '}' : ']';
+                pos++;
+                if (consume(close)) {
+                    return;
+                }
+                do {
+                    if (c == '{') {
+                        string(new StringBuilder());
+                        expect(':');
+                    }
+                    skipValue();
+                } while (consume(','));
+                expect(close);
+            } else {
+                scalar(new StringBuilder());
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.narxoz.rpg.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Result of one TemplateLoader run.
+ *
+ * Every bad row is counted, but only the MAX_KEPT with the lowest line
+ * numbers are kept with their details, so a broken 1M-row file cannot
+ * exhaust memory. Parallel workers report rows out of order; a bounded
+ * max-heap on line number keeps the result the same as a serial load.
+ */
+public final class LoadReport {
+
+    /** Bad rows kept with details; the rest are only counted. */
+    public static final int MAX_KEPT = 100;
+
+    private static final Comparator<BadRow> BY_LINE = Comparator.comparingLong(BadRow::getLineNumber);
+
+    private final String source;
+    private long rows;
+    private long loaded;
+    private long badRows;
+    // Max-heap: the head is the highest kept line, the first to be evicted
+    private final PriorityQueue<BadRow> kept = new PriorityQueue<>(MAX_KEPT, BY_LINE.reversed());
+    private long elapsedNanos;
+
+    LoadReport(String source) {
+        this.source = source;
+    }
+
+    synchronized void addLoaded(long rowCount) {
+        rows += rowCount;
+        loaded += rowCount;
+    }
+
+    synchronized void addBad(long lineNumber, String message, String line) {
+        rows++;
+        badRows++;
+        if (kept.size() < MAX_KEPT) {
+            kept.add(new BadRow(lineNumber, message, line));
+        } else if (lineNumber < kept.peek().lineNumber) {
+            kept.poll();
+            kept.add(new BadRow(lineNumber, message, line));
+        }
+    }
+
+    synchronized void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return Data rows read (header, blank and comment lines excluded)
+     */
+    public synchronized long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return Rows built and registered
+     */
+    public synchronized long getLoaded() {
+        return loaded;
+    }
+
+    public synchronized long getBadRowCount() {
+        return badRows;
+    }
+
+    /**
+     * @return The MAX_KEPT bad rows with the lowest line numbers, in line
+     *         order (also for parallel loads)
+     */
+    public synchronized List<BadRow> getBadRows() {
+        return Collections.unmodifiableList(sortedKept());
+    }
+
+    public synchronized long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(source).append(": ").append(loaded).append(" loaded, ")
+                .append(badRows).append(" bad of ").append(rows).append(" rows in ")
+                .append(elapsedNanos / 1_000_000).append(" ms");
+        for (BadRow bad : sortedKept()) {
+            sb.append(System.lineSeparator()).append("  ").append(bad);
+        }
+        if (badRows > kept.size()) {
+            sb.append(System.lineSeparator()).append("  ... ").append(badRows - kept.size()).append(" more");
+        }
+        return sb.toString();
+    }
+
+    private List<BadRow> sortedKept() {
+        List<BadRow> sorted = new ArrayList<>(kept);
+        sorted.sort(BY_LINE);
+        return sorted;
+    }
+
+    /**
+     * One rejected row.
+     */
+    public static final class BadRow {
+
+        private static final int MAX_TEXT = 80;
+
+        private final long lineNumber;
+        private final String message;
+        private final String text;
+
+        BadRow(long lineNumber, String message, String line) {
+            this.lineNumber = lineNumber;
+            this.message = message;
+            this.text = line.length() > MAX_TEXT ? line.substring(0, MAX_TEXT) + "..." : line;
+        }
+
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * @return The row's text, truncated
+         */
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public String toString() {
+            return "line " + lineNumber + ": " + message + " | " + text;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.narxoz.rpg.data;
+
+/**
+ * Turns one line of a data file into a TemplateRow.
+ * Implementations are stateless after construction and thread-safe.
+ */
+interface RowParser {
+
+    /**
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    void parse(String line, TemplateRow row);
+}
@@ -0,0 +1,45 @@
+package com.narxoz.rpg.data;
+
+import java.util.Locale;
+
+/**
+ * Columns (CSV) / fields (JSON lines) of a template data file.
+ *
+ *   key        registry key                              required
+ *   type       builder name: "basic", "boss", ...         required
+ *   name       enemy name                                required
+ *   health     int                                       required
+ *   damage, defense, speed      int                      default 0
+ *   element    Element name, e.g. "FIRE"                 default builder's
+ *   theme      component factory: "fire", "ice", ...     abilities + loot + AI
+ *   ai         AIBehavior name, overrides the theme's    optional
+ *   phases     "1:5000;2:2500" (phase:threshold pairs)   optional
+ *   abilities  extra ability names, "Vanish;Ice Shield"  optional
+ *
+ * Element and AI names are case-insensitive; an unknown name is a bad row.
+ */
+enum TemplateColumn {
+
+    KEY, TYPE, NAME, HEALTH, DAMAGE, DEFENSE, SPEED, ELEMENT, THEME, AI, PHASES, ABILITIES;
+
+    private static final TemplateColumn[] ALL = values();
+
+    /** Lower-case name used in CSV headers and JSON field names. */
+    final String fieldName = name().toLowerCase(Locale.ROOT);
+
+    /**
+     * @return The column with this header / field name (case-insensitive), or null
+     */
+    static TemplateColumn forField(String field) {
+        for (TemplateColumn column : ALL) {
+            if (column.fieldName.equalsIgnoreCase(field.trim())) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    static int count() {
+        return ALL.length;
+    }
+}
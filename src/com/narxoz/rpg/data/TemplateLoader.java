@@ -0,0 +1,345 @@
+package com.narxoz.rpg.data;
+
+import com.narxoz.rpg.builder.BasicEnemyBuilder;
+import com.narxoz.rpg.builder.BossEnemyBuilder;
+import com.narxoz.rpg.builder.EnemyBuilder;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.factory.EnemyComponentFactory;
+import com.narxoz.rpg.factory.ComponentFamily;
+import com.narxoz.rpg.factory.ThemeRegistry;
+import com.narxoz.rpg.prototype.EnemyRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Streams enemy templates from CSV or JSON-lines files into an EnemyRegistry.
+ *
+ * Each data row picks a builder by its 'type' and, optionally, a component
+ * factory by its 'theme'; the row's stats and overrides are applied, the
+ * builder builds, and the result is registered under the row's 'key'
+ * (columns: see TemplateColumn). Example CSV:
+ *
+ *   key,type,name,health,damage,defense,speed,theme,phases
+ *   forest_goblin,basic,Forest Goblin,100,15,5,35,,
+ *   fire_dragon,boss,Fire Dragon,50000,500,200,50,fire,1:50000;2:30000;3:15000
+ *
+ * Streaming:
+ *   Files are read line by line and never held in memory; only the
+ *   registry grows with the template count. A row that fails to parse or
+ *   build is recorded in the LoadReport and loading goes on. Blank lines
+ *   and lines starting with '#' are skipped.
+ *
+ * Parallel loading (setParallelism(n), n > 1):
+ *   The reading thread cuts the file into chunks of CHUNK_LINES lines and
+ *   n workers parse, build and register them. At most 2n chunks are in
+ *   flight at once; the reader blocks until a worker frees one, so memory
+ *   stays bounded however large the file is. Rows are registered in no
+ *   particular order, so when a key appears twice which row wins is
+ *   unspecified (sequentially, the last one wins).
+ *
+ * Usage:
+ *   TemplateLoader loader = new TemplateLoader(registry).setParallelism(4);
+ *   LoadReport report = loader.load(Path.of("enemies.csv"));
+ *   System.out.println(report);
+ *
+ * Builders "basic" and "boss" are registered by default and every
+ * ThemeRegistry theme is available; registerBuilder() and registerTheme()
+ * add more for this loader only.
+ */
+public class TemplateLoader {
+
+    /** Lines per parallel work unit. */
+    public static final int CHUNK_LINES = 4096;
+
+    private final EnemyRegistry registry;
+    private final Map<String, Supplier<? extends EnemyBuilder>> builders = new HashMap<>();
+    private final Map<String, ComponentFamily> themes = new HashMap<>();
+    private int parallelism = 1;
+
+    public TemplateLoader(EnemyRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null!");
+        }
+        this.registry = registry;
+        registerBuilder("basic", BasicEnemyBuilder::new);
+        registerBuilder("boss", BossEnemyBuilder::new);
+    }
+
+    /**
+     * Map a 'type' value to a builder. A fresh builder is used for every row.
+     */
+    public TemplateLoader registerBuilder(String type, Supplier<? extends EnemyBuilder> builder) {
+        if (type == null || type.isEmpty() || builder == null) {
+            throw new IllegalArgumentException("Builder type and supplier are required!");
+        }
+        builders.put(type.toLowerCase(Locale.ROOT), builder);
+        return this;
+    }
+
+    /**
+     * Map a 'theme' value to a component factory. The factory's family is
+     * created once here and shared by every row of that theme. Takes
+     * precedence over a ThemeRegistry theme of the same name.
+     */
+    public TemplateLoader registerTheme(String theme, EnemyComponentFactory factory) {
+        if (theme == null || theme.isEmpty() || factory == null) {
+            throw new IllegalArgumentException("Theme name and factory are required!");
+        }
+        themes.put(theme.toLowerCase(Locale.ROOT), ComponentFamily.of(theme, factory));
+        return this;
+    }
+
+    /**
+     * @param threads Worker threads; 1 (the default) loads on the calling thread
+     */
+    public TemplateLoader setParallelism(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive!");
+        }
+        this.parallelism = threads;
+        return this;
+    }
+
+    // ============================================================
+    // ENTRY POINTS
+    // ============================================================
+
+    /**
+     * Load a UTF-8 file: ".jsonl"/".ndjson" as JSON lines, anything else as CSV.
+     */
+    public LoadReport load(Path path) throws IOException {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        boolean json = name.endsWith(".jsonl") || name.endsWith(".ndjson");
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return json ? load(reader, null, path.toString()) : load(reader, "", path.toString());
+        }
+    }
+
+    /**
+     * Load CSV with a header line. The reader is not closed.
+     *
+     * @throws IllegalArgumentException if the header lacks a required column
+     */
+    public LoadReport loadCsv(Reader reader, String source) throws IOException {
+        return load(buffered(reader), "", source);
+    }
+
+    /**
+     * Load JSON lines. The reader is not closed.
+     */
+    public LoadReport loadJsonLines(Reader reader, String source) throws IOException {
+        return load(buffered(reader), null, source);
+    }
+
+    private static BufferedReader buffered(Reader reader) {
+        return reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * @param csvHeader "" to read a CSV header first, null for JSON lines
+     */
+    private LoadReport load(BufferedReader reader, String csvHeader, String source) throws IOException {
+        long start = System.nanoTime();
+        LoadReport report = new LoadReport(source);
+        long lineNumber = 0;
+        RowParser parser = JsonLineRowParser.INSTANCE;
+        if (csvHeader != null) {
+            String header;
+            do {
+                header = reader.readLine();
+                lineNumber++;
+            } while (header != null && isSkipped(header));
+            if (header == null) {
+                report.finish(System.nanoTime() - start);
+                return report;
+            }
+            parser = new CsvRowParser(header);
+        }
+        if (parallelism == 1) {
+            loadSequential(reader, parser, lineNumber, report);
+        } else {
+            loadParallel(reader, parser, lineNumber, report);
+        }
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    private void loadSequential(BufferedReader reader, RowParser parser, long lineNumber, LoadReport report)
+            throws IOException {
+        TemplateRow row = new TemplateRow();
+        long loaded = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!isSkipped(line) && loadLine(line, lineNumber, parser, row, report)) {
+                loaded++;
+            }
+        }
+        report.addLoaded(loaded);
+    }
+
+    private void loadParallel(BufferedReader reader, RowParser parser, long lineNumber, LoadReport report)
+            throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "template-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int maxInFlight = parallelism * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            String[] chunk = new String[CHUNK_LINES];
+            int size = 0;
+            long chunkStart = lineNumber + 1;
+            String line;
+            while (failure.get() == null && (line = reader.readLine()) != null) {
+                chunk[size++] = line;
+                if (size == CHUNK_LINES) {
+                    submit(workers, inFlight, failure, chunk, size, chunkStart, parser, report);
+                    chunk = new String[CHUNK_LINES];
+                    chunkStart += size;
+                    size = 0;
+                }
+            }
+            if (size > 0) {
+                submit(workers, inFlight, failure, chunk, size, chunkStart, parser, report);
+            }
+            inFlight.acquireUninterruptibly(maxInFlight); // wait for the last chunks
+        } finally {
+            workers.shutdownNow();
+        }
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+    }
+
+    private void submit(ExecutorService workers, Semaphore inFlight, AtomicReference<Throwable> failure,
+                        String[] lines, int size, long firstLine, RowParser parser, LoadReport report) {
+        inFlight.acquireUninterruptibly();
+        workers.execute(() -> {
+            try {
+                TemplateRow row = new TemplateRow();
+                long loaded = 0;
+                for (int i = 0; i < size; i++) {
+                    if (!isSkipped(lines[i]) && loadLine(lines[i], firstLine + i, parser, row, report)) {
+                        loaded++;
+                    }
+                }
+                report.addLoaded(loaded);
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private static boolean isSkipped(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '#';
+            }
+        }
+        return true;
+    }
+
+    // ============================================================
+    // ONE ROW
+    // ============================================================
+
+    /**
+     * @return true if the row was registered; false if it went to the report
+     */
+    private boolean loadLine(String line, long lineNumber, RowParser parser, TemplateRow row, LoadReport report) {
+        try {
+            row.clear(lineNumber);
+            parser.parse(line, row);
+            registry.registerTemplate(row.require(TemplateColumn.KEY), build(row));
+            return true;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            report.addBad(lineNumber, e.getMessage(), line);
+            return false;
+        }
+    }
+
+    private Enemy build(TemplateRow row) {
+        String type = row.require(TemplateColumn.TYPE);
+        Supplier<? extends EnemyBuilder> supplier = builders.get(type.toLowerCase(Locale.ROOT));
+        if (supplier == null) {
+            throw new IllegalArgumentException("Unknown type '" + type + "'!");
+        }
+        EnemyBuilder builder = supplier.get()
+                .setName(row.require(TemplateColumn.NAME))
+                .setHealth(row.getInt(TemplateColumn.HEALTH, 0))
+                .setDamage(row.getInt(TemplateColumn.DAMAGE, 0))
+                .setDefense(row.getInt(TemplateColumn.DEFENSE, 0))
+                .setSpeed(row.getInt(TemplateColumn.SPEED, 0));
+
+        String themeName = row.get(TemplateColumn.THEME);
+        if (themeName != null) {
+            ComponentFamily theme = themes.get(themeName.toLowerCase(Locale.ROOT));
+            if (theme == null) {
+                theme = ThemeRegistry.family(themeName);
+            }
+            if (theme == null) {
+                throw new IllegalArgumentException("Unknown theme '" + themeName + "'!");
+            }
+            builder.setAbilities(theme.getAbilities()).setLootTable(theme.getLootTable()).setAI(theme.getAIBehavior());
+        }
+        String element = row.get(TemplateColumn.ELEMENT);
+        if (element != null) {
+            builder.setElement(element);
+        }
+        String ai = row.get(TemplateColumn.AI);
+        if (ai != null) {
+            builder.setAI(ai);
+        }
+        String abilities = row.get(TemplateColumn.ABILITIES);
+        if (abilities != null) {
+            for (String name : abilities.split(";")) {
+                Ability ability = AbilityCatalog.byName(name.trim());
+                if (ability == null) {
+                    throw new IllegalArgumentException("Unknown ability '" + name.trim() + "'!");
+                }
+                builder.addAbility(ability);
+            }
+        }
+        String phases = row.get(TemplateColumn.PHASES);
+        if (phases != null) {
+            for (String phase : phases.split(";")) {
+                int colon = phase.indexOf(':');
+                if (colon < 0) {
+                    throw new IllegalArgumentException("Phase '" + phase.trim() + "' is not phase:threshold!");
+                }
+                try {
+                    builder.addPhase(Integer.parseInt(phase.substring(0, colon).trim()),
+                            Integer.parseInt(phase.substring(colon + 1).trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Phase '" + phase.trim() + "' is not phase:threshold!");
+                }
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.narxoz.rpg.data;
+
+import java.util.Arrays;
+
+/**
+ * One parsed row, reused for every line a worker parses.
+ * Missing and empty fields are null.
+ */
+final class TemplateRow {
+
+    private final String[] values = new String[TemplateColumn.count()];
+    long lineNumber;
+
+    void clear(long lineNumber) {
+        Arrays.fill(values, null);
+        this.lineNumber = lineNumber;
+    }
+
+    void set(TemplateColumn column, String value) {
+        values[column.ordinal()] = value == null || value.isEmpty() ? null : value;
+    }
+
+    String get(TemplateColumn column) {
+        return values[column.ordinal()];
+    }
+
+    String require(TemplateColumn column) {
+        String value = values[column.ordinal()];
+        if (value == null) {
+            throw new IllegalArgumentException("Missing '" + column.fieldName + "'!");
+        }
+        return value;
+    }
+
+    int getInt(TemplateColumn column, int defaultValue) {
+        String value = values[column.ordinal()];
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("'" + column.fieldName + "' is not an integer: " + value + "!");
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.narxoz.rpg.enemy;
 
+import com.narxoz.rpg.combat.AIBehavior;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.Element;
 import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.metrics.BossPhaseEvent;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.OperationMetrics;
+import com.narxoz.rpg.render.TextEnemyRenderer;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Map;
-import java.util.HashMap;
+import java.util.Collections;
 
 /**
  * Example complex boss enemy — THE REASON BUILDER PATTERN EXISTS.
@@ -30,8 +35,8 @@ import java.util.HashMap;
  * Compare:
  *
  *   BEFORE (Telescoping Constructor — current code):
- *   new DragonBoss("Fire Dragon", 50000, 500, 200, 50, "FIRE",
- *       abilities, 30000, 15000, 5000, loot, "AGGRESSIVE",
+ *   new DragonBoss("Fire Dragon", 50000, 500, 200, 50, Element.FIRE,
+ *       abilities, 30000, 15000, 5000, loot, AIBehavior.AGGRESSIVE,
  *       true, true, 20);
  *   // What does 'true, true, 20' mean? Nobody knows!
  *
@@ -63,6 +68,8 @@ import java.util.HashMap;
  */
 public class DragonBoss implements Enemy {
 
+    private static final OperationMetrics CLONE_METRICS = Metrics.CLONES.get("DragonBoss");
+
     // --- Basic Stats ---
     private String name;
     private int health;
@@ -71,20 +78,22 @@ public class DragonBoss implements Enemy {
     private int speed;
 
     // --- Elemental Theme ---
-    private String element;
+    private Element element;
 
     // --- Abilities ---
     private List<Ability> abilities;
 
     // --- Boss Phases (health thresholds that trigger behavior changes) ---
-    // Phase number -> health threshold at which this phase activates
-    private Map<Integer, Integer> phases;
+    // Immutable sorted table, shared with clones. The cursor is per-instance.
+    private PhaseTable phases;
+    private int phaseIndex;
+    private PhaseTransitionListener phaseListener;
 
     // --- Loot ---
     private LootTable lootTable;
 
     // --- AI Behavior ---
-    private String aiBehavior;
+    private AIBehavior aiBehavior;
 
     // --- Special Properties ---
     private boolean canFly;
@@ -102,10 +111,10 @@ public class DragonBoss implements Enemy {
      *   AFTER: accessed only via BossEnemyBuilder
      */
     public DragonBoss(String name, int health, int damage, int defense,
-                      int speed, String element,
+                      int speed, Element element,
                       List<Ability> abilities,
                       int phase1Threshold, int phase2Threshold, int phase3Threshold,
-                      LootTable lootTable, String aiBehavior,
+                      LootTable lootTable, AIBehavior aiBehavior,
                       boolean canFly, boolean hasBreathAttack, int wingspan) {
 
         this.name = name;
@@ -113,19 +122,71 @@ public class DragonBoss implements Enemy {
         this.damage = damage;
         this.defense = defense;
         this.speed = speed;
-        this.element = element;
-        this.abilities = abilities != null ? abilities : new ArrayList<>();
-        this.phases = new HashMap<>();
-        this.phases.put(1, phase1Threshold);
-        this.phases.put(2, phase2Threshold);
-        this.phases.put(3, phase3Threshold);
+        this.element = element != null ? element : Element.NONE;
+        // Own copy: the caller (usually a builder) may keep mutating its list.
+        // Never mutated afterwards, so getAbilities() can hand out the list itself.
+        this.abilities = Collections.unmodifiableList(
+                abilities != null ? new ArrayList<>(abilities) : new ArrayList<>());
+        this.phases = new PhaseTable(new int[] {1, 2, 3},
+                new int[] {phase1Threshold, phase2Threshold, phase3Threshold});
+        this.phaseIndex = phases.indexForHealth(health);
+        this.lootTable = lootTable;
+        this.aiBehavior = aiBehavior != null ? aiBehavior : AIBehavior.NEUTRAL;
+        this.canFly = canFly;
+        this.hasBreathAttack = hasBreathAttack;
+        this.wingspan = wingspan;
+    }
+
+    /**
+     * CONSTRUCTOR for bosses with any number of phases (used by BossEnemyBuilder).
+     */
+    public DragonBoss(String name, int health, int damage, int defense,
+                      int speed, Element element,
+                      List<Ability> abilities, PhaseTable phases,
+                      LootTable lootTable, AIBehavior aiBehavior,
+                      boolean canFly, boolean hasBreathAttack, int wingspan) {
+        if (phases == null) {
+            throw new IllegalArgumentException("Boss must have a phase table!");
+        }
+        this.name = name;
+        this.health = health;
+        this.damage = damage;
+        this.defense = defense;
+        this.speed = speed;
+        this.element = element != null ? element : Element.NONE;
+        // Own copy: the caller (usually a builder) may keep mutating its list.
+        // Never mutated afterwards, so getAbilities() can hand out the list itself.
+        this.abilities = Collections.unmodifiableList(
+                abilities != null ? new ArrayList<>(abilities) : new ArrayList<>());
+        this.phases = phases;
+        this.phaseIndex = phases.indexForHealth(health);
         this.lootTable = lootTable;
-        this.aiBehavior = aiBehavior;
+        this.aiBehavior = aiBehavior != null ? aiBehavior : AIBehavior.NEUTRAL;
         this.canFly = canFly;
         this.hasBreathAttack = hasBreathAttack;
         this.wingspan = wingspan;
     }
 
+    /**
+     * Copy constructor used by clone(): shares the immutable structures.
+     */
+    private DragonBoss(DragonBoss source) {
+        this.name = source.name;
+        this.health = source.health;
+        this.damage = source.damage;
+        this.defense = source.defense;
+        this.speed = source.speed;
+        this.element = source.element;
+        this.abilities = source.abilities;
+        this.phases = source.phases;
+        this.phaseIndex = source.phaseIndex;
+        this.lootTable = source.lootTable;
+        this.aiBehavior = source.aiBehavior;
+        this.canFly = source.canFly;
+        this.hasBreathAttack = source.hasBreathAttack;
+        this.wingspan = source.wingspan;
+    }
+
     // ============================================================
     // ENEMY INTERFACE IMPLEMENTATION
     // ============================================================
@@ -157,7 +218,25 @@ public class DragonBoss implements Enemy {
 
     @Override
     public List<Ability> getAbilities() {
-        return new ArrayList<>(abilities);
+        return abilities;
+    }
+
+    @Override
+    public int abilityCount() {
+        return abilities.size();
+    }
+
+    @Override
+    public Ability abilityAt(int index) {
+        return abilities.get(index);
+    }
+
+    /**
+     * @return Elemental theme of this boss (e.g., FIRE, NONE)
+     */
+    @Override
+    public Element getElement() {
+        return element;
     }
 
     @Override
@@ -167,63 +246,124 @@ public class DragonBoss implements Enemy {
 
     @Override
     public void displayInfo() {
-        System.out.println("=== " + name + " (Dragon Boss) ===");
-        System.out.println("Health: " + health + " | Damage: " + damage
-                + " | Defense: " + defense + " | Speed: " + speed);
-        System.out.println("Element: " + element);
-        System.out.println("Abilities (" + abilities.size() + "):");
-        for (Ability ability : abilities) {
-            System.out.println("  - " + ability.getName() + ": " + ability.getDescription());
-        }
-        System.out.println("Boss Phases: " + phases.size());
-        for (Map.Entry<Integer, Integer> phase : phases.entrySet()) {
-            System.out.println("  Phase " + phase.getKey()
-                    + ": triggers at " + phase.getValue() + " HP");
+        TextEnemyRenderer.print(this);
+    }
+
+    /**
+     * @return AI behavior (e.g., AGGRESSIVE)
+     */
+    @Override
+    public AIBehavior getAIBehavior() {
+        return aiBehavior;
+    }
+
+    public boolean canFly() {
+        return canFly;
+    }
+
+    public boolean hasBreathAttack() {
+        return hasBreathAttack;
+    }
+
+    public int getWingspan() {
+        return wingspan;
+    }
+
+    /**
+     * @return The boss's phase table (immutable, shared with clones)
+     */
+    public PhaseTable getPhaseTable() {
+        return phases;
+    }
+
+    /**
+     * @return Phase number currently active
+     */
+    public int getCurrentPhase() {
+        return phases.phaseNumberAt(phaseIndex);
+    }
+
+    /**
+     * Register the callback fired on phase transitions (null to remove).
+     * Listeners are per instance: clones and pooled resets start without one.
+     */
+    public void setPhaseListener(PhaseTransitionListener listener) {
+        this.phaseListener = listener;
+    }
+
+    /**
+     * Reduce health (not below 0) and enter every phase whose threshold
+     * was crossed, firing the listener (and a BossPhaseEvent) once per transition.
+     *
+     * @param amount Damage already reduced by defense
+     * @return Health remaining
+     */
+    public int takeDamage(int amount) {
+        if (amount <= 0) {
+            return health;
         }
-        System.out.println("AI Behavior: " + aiBehavior);
-        System.out.println("Can Fly: " + canFly
-                + " | Breath Attack: " + hasBreathAttack
-                + " | Wingspan: " + wingspan);
-        if (lootTable != null) {
-            System.out.println(lootTable.getLootInfo());
+        health = Math.max(0, health - amount);
+        int next = phases.nextIndex(phaseIndex, health);
+        while (next != phaseIndex) {
+            int from = phases.phaseNumberAt(phaseIndex);
+            phaseIndex = next;
+            BossPhaseEvent event = new BossPhaseEvent();
+            event.begin();
+            if (phaseListener != null) {
+                phaseListener.onPhaseChange(this, from, phases.phaseNumberAt(next));
+            }
+            event.complete(name, from, phases.phaseNumberAt(next), health);
+            next = phases.nextIndex(phaseIndex, health);
         }
+        return health;
     }
 
     @Override
     public Enemy clone() {
-        // Deep copy: create new dragon with cloned abilities and loot
-        DragonBoss copy = new DragonBoss(
-            this.name, this.health, this.damage, this.defense, this.speed,
-            this.element,
-            new ArrayList<>(this.abilities), // Will be deep copied below
-            this.phases.getOrDefault(1, this.health),
-            this.phases.getOrDefault(2, this.health / 2),
-            this.phases.getOrDefault(3, this.health / 4),
-            this.lootTable != null ? this.lootTable.clone() : null,
-            this.aiBehavior,
-            this.canFly,
-            this.hasBreathAttack,
-            this.wingspan
-        );
-
-        // Deep copy abilities
-        copy.abilities.clear();
-        for (Ability ability : this.abilities) {
-            copy.abilities.add(ability.clone());
-        }
-
+        // Copy-on-write: abilities, phases and loot are never mutated after
+        // construction, so the clone shares them instead of deep-copying.
+        // Only the primitive stats (which multiplyStats changes) are copied.
+        long start = Metrics.start();
+        DragonBoss copy = new DragonBoss(this);
+        CLONE_METRICS.stop(start);
         return copy;
     }
 
+    @Override
+    public boolean resetFrom(Enemy template) {
+        if (!(template instanceof DragonBoss)) {
+            return false;
+        }
+        DragonBoss source = (DragonBoss) template;
+        this.name = source.name;
+        this.health = source.health;
+        this.damage = source.damage;
+        this.defense = source.defense;
+        this.speed = source.speed;
+        this.element = source.element;
+        this.abilities = source.abilities;
+        this.phases = source.phases;
+        this.phaseIndex = source.phaseIndex;
+        this.lootTable = source.lootTable;
+        this.aiBehavior = source.aiBehavior;
+        this.canFly = source.canFly;
+        this.hasBreathAttack = source.hasBreathAttack;
+        this.wingspan = source.wingspan;
+        this.phaseListener = null; // the previous encounter's callback must not fire
+        return true;
+    }
+
     // ============================================================
     // HELPER METHODS FOR VARIANT CREATION
     // ============================================================
 
+    @Override
     public void multiplyStats(double multiplier) {
         this.health = (int) Math.round(this.health * multiplier);
         this.damage = (int) Math.round(this.damage * multiplier);
         this.defense = (int) Math.round(this.defense * multiplier);
         this.speed = (int) Math.round(this.speed * multiplier);
+        this.phaseIndex = phases.indexForHealth(this.health);
     }
 
 }
@@ -1,9 +1,12 @@
 package com.narxoz.rpg.enemy;
 
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AIBehavior;
+import com.narxoz.rpg.combat.Element;
 import com.narxoz.rpg.loot.LootTable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Base interface for all enemies in the RPG system.
@@ -89,15 +92,51 @@ public interface Enemy {
      */
     int getSpeed();
 
+    /**
+     * @return Elemental type, used by combat resistances (NONE by default)
+     */
+    default Element getElement() {
+        return Element.NONE;
+    }
+
+    /**
+     * @return How this enemy fights, used by combat (NEUTRAL by default)
+     */
+    default AIBehavior getAIBehavior() {
+        return AIBehavior.NEUTRAL;
+    }
+
     // ============================================================
     // ABILITY METHODS
     // ============================================================
 
     /**
-     * @return Unmodifiable list of this enemy's abilities
+     * @return Unmodifiable list of this enemy's abilities. Not a copy: no
+     *         allocation per call. Enemies replace the list when abilities
+     *         change and never mutate it, so it is safe to share (EnemyStore
+     *         slots keep the template's list).
      */
     List<Ability> getAbilities();
 
+    /**
+     * @return Number of abilities (no allocation)
+     */
+    int abilityCount();
+
+    /**
+     * @return The ability at this index, 0 <= index < abilityCount()
+     */
+    Ability abilityAt(int index);
+
+    /**
+     * Visit every ability in order without allocating an iterator.
+     */
+    default void forEachAbility(Consumer<? super Ability> action) {
+        for (int i = 0, n = abilityCount(); i < n; i++) {
+            action.accept(abilityAt(i));
+        }
+    }
+
     // ============================================================
     // LOOT METHODS
     // ============================================================
@@ -124,12 +163,15 @@ public interface Enemy {
     // ============================================================
 
     /**
-     * Creates a DEEP COPY of this enemy for variant creation.
+     * Creates an INDEPENDENT COPY of this enemy for variant creation.
      *
      * CRITICAL REQUIREMENTS:
      * - Primitive stats (health, damage, etc.) → direct copy
-     * - Ability list → NEW list with CLONED abilities (not references!)
-     * - LootTable → CLONED (not reference!)
+     * - Ability list → shared: it is immutable, and addAbility() gives only
+     *   the enemy it is called on a new, grown list. Cloning never writes
+     *   to the original, so templates are safe to clone from many threads
+     * - LootTable → shared (loot tables are read-only); setLootTable()
+     *   only replaces the reference on one side
      *
      * TEST: Clone an enemy, modify the clone's abilities.
      * If the original's abilities change → BUG: too shallow!
@@ -138,4 +180,31 @@ public interface Enemy {
      */
     Enemy clone();
 
+    /**
+     * Scale health, damage, defense and speed (rounded) for variant tiers.
+     * Example: clone of a base Goblin + multiplyStats(2.0) = Elite Goblin.
+     *
+     * @param multiplier Factor applied to every core stat
+     */
+    void multiplyStats(double multiplier);
+
+    // ============================================================
+    // RECYCLING (used by object pools)
+    // ============================================================
+
+    /**
+     * Reset this instance IN PLACE to match a template, as if it had just
+     * been cloned from it. Lets pools reuse dead enemies without allocating.
+     *
+     * Implementations share the template's abilities and loot the same way
+     * clone() does (copy-on-write).
+     *
+     * @param template The template to copy stats and components from
+     * @return true if reset, false if this enemy type cannot take the
+     *         template's state (caller should clone instead)
+     */
+    default boolean resetFrom(Enemy template) {
+        return false;
+    }
+
 }
@@ -0,0 +1,502 @@
+package com.narxoz.rpg.enemy;
+
+import com.narxoz.rpg.combat.AIBehavior;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.Element;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.OperationMetrics;
+import com.narxoz.rpg.render.TextEnemyRenderer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Columnar (struct-of-arrays) storage for very large numbers of live enemies.
+ *
+ * A Goblin object per mob is fine for a demo, but a dungeon with hundreds of
+ * thousands of mobs spends most of its time chasing pointers. The store keeps
+ * each stat in its own primitive array instead, so bulk operations scan
+ * contiguous memory and the GC sees a handful of arrays, not millions of objects.
+ *
+ * Every live enemy is addressed by a compact int HANDLE:
+ *   low 20 bits  -> slot index
+ *   high 12 bits -> slot generation (bumped on despawn, detects stale handles)
+ * A slot whose generation would wrap around is retired instead of reused,
+ * so a stale handle can never come back to life as a different enemy.
+ *
+ * Abilities and loot are NOT copied per slot. Every slot points at the
+ * ability list and loot table of the template it was spawned from.
+ *
+ * Usage:
+ *   EnemyStore store = new EnemyStore(100_000);
+ *   int handle = store.spawn(goblinTemplate);
+ *   Enemy goblin = store.view(handle);   // works wherever an Enemy is expected
+ *   store.damageAll(25);                 // bulk op straight over the columns
+ *   store.despawnDead();
+ *
+ * Not thread-safe: one store per simulation thread.
+ */
+public class EnemyStore {
+
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (Integer.SIZE - INDEX_BITS)) - 1;
+
+    /** Maximum number of slots a single store can address. */
+    public static final int MAX_CAPACITY = 1 << INDEX_BITS;
+
+    // --- Columns (one entry per slot) ---
+    private String[] names;
+    private int[] health;
+    private int[] damage;
+    private int[] defense;
+    private int[] speed;
+    private byte[] element; // Element ordinal
+    private byte[] behavior; // AIBehavior ordinal
+    private short[] generation;
+    private boolean[] live;
+    private List<?>[] abilities;
+    private LootTable[] lootTables;
+
+    // --- Slot bookkeeping ---
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;
+    private int liveCount;
+
+    public EnemyStore(int initialCapacity) {
+        if (initialCapacity <= 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + "!");
+        }
+        this.names = new String[initialCapacity];
+        this.health = new int[initialCapacity];
+        this.damage = new int[initialCapacity];
+        this.defense = new int[initialCapacity];
+        this.speed = new int[initialCapacity];
+        this.element = new byte[initialCapacity];
+        this.behavior = new byte[initialCapacity];
+        this.generation = new short[initialCapacity];
+        this.live = new boolean[initialCapacity];
+        this.abilities = new List<?>[initialCapacity];
+        this.lootTables = new LootTable[initialCapacity];
+        this.freeSlots = new int[16];
+    }
+
+    // ============================================================
+    // SPAWN / DESPAWN
+    // ============================================================
+
+    /**
+     * Spawn one enemy copying the stats of a template. The slot shares the
+     * template's (immutable) ability list instead of copying it.
+     *
+     * @return Handle of the new slot
+     */
+    public int spawn(Enemy template) {
+        return spawn(template.getName(), template.getHealth(), template.getDamage(),
+                template.getDefense(), template.getSpeed(), template.getElement(),
+                template.getAIBehavior(), template.getAbilities(), template.getLootTable());
+    }
+
+    /**
+     * Spawn many copies of one template. The ability list and loot table are
+     * resolved once and shared by every spawned slot.
+     *
+     * @param handles Output array, receives one handle per spawned enemy
+     */
+    public void spawn(Enemy template, int count, int[] handles) {
+        if (count < 0 || count > handles.length) {
+            throw new IllegalArgumentException("Count must be between 0 and handles.length!");
+        }
+        String name = template.getName();
+        int hp = template.getHealth();
+        int dmg = template.getDamage();
+        int def = template.getDefense();
+        int spd = template.getSpeed();
+        Element elem = template.getElement();
+        AIBehavior ai = template.getAIBehavior();
+        List<Ability> shared = template.getAbilities();
+        LootTable loot = template.getLootTable();
+        for (int i = 0; i < count; i++) {
+            handles[i] = spawn(name, hp, dmg, def, spd, elem, ai, shared, loot);
+        }
+    }
+
+    /**
+     * Spawn one enemy from raw stats.
+     *
+     * @param abilities Shared, read-only ability list (not copied)
+     * @return Handle of the new slot
+     */
+    public int spawn(String name, int health, int damage, int defense, int speed,
+                     Element element, AIBehavior aiBehavior, List<Ability> abilities, LootTable lootTable) {
+        int slot = allocateSlot();
+        this.names[slot] = name;
+        this.health[slot] = health;
+        this.damage[slot] = damage;
+        this.defense[slot] = defense;
+        this.speed[slot] = speed;
+        this.element[slot] = (byte) (element != null ? element : Element.NONE).ordinal();
+        this.behavior[slot] = (byte) (aiBehavior != null ? aiBehavior : AIBehavior.NEUTRAL).ordinal();
+        this.abilities[slot] = abilities != null ? abilities : Collections.emptyList();
+        this.lootTables[slot] = lootTable;
+        this.live[slot] = true;
+        liveCount++;
+        return handleOf(slot);
+    }
+
+    /**
+     * Free a slot. The handle (and any view over it) becomes invalid.
+     * After 4096 reuses a slot is retired for good rather than let its
+     * generation wrap back to an old handle.
+     */
+    public void despawn(int handle) {
+        int slot = slotOf(handle);
+        live[slot] = false;
+        int next = (generation[slot] + 1) & GENERATION_MASK;
+        generation[slot] = (short) next;
+        names[slot] = null;
+        abilities[slot] = null;
+        lootTables[slot] = null;
+        liveCount--;
+        if (next == 0) {
+            return; // every handle of this slot has been issued once: retire it
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * @return true if the handle still refers to a live enemy
+     */
+    public boolean isValid(int handle) {
+        int slot = handle & INDEX_MASK;
+        return slot < highWater && live[slot] && generation[slot] == (handle >>> INDEX_BITS);
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    // ============================================================
+    // PER-SLOT ACCESS
+    // ============================================================
+
+    public String getName(int handle) {
+        return names[slotOf(handle)];
+    }
+
+    public int getHealth(int handle) {
+        return health[slotOf(handle)];
+    }
+
+    public int getDamage(int handle) {
+        return damage[slotOf(handle)];
+    }
+
+    public int getDefense(int handle) {
+        return defense[slotOf(handle)];
+    }
+
+    public int getSpeed(int handle) {
+        return speed[slotOf(handle)];
+    }
+
+    public Element getElement(int handle) {
+        return Element.byOrdinal(element[slotOf(handle)]);
+    }
+
+    public AIBehavior getAIBehavior(int handle) {
+        return AIBehavior.byOrdinal(behavior[slotOf(handle)]);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Ability> getAbilities(int handle) {
+        return (List<Ability>) abilities[slotOf(handle)];
+    }
+
+    public LootTable getLootTable(int handle) {
+        return lootTables[slotOf(handle)];
+    }
+
+    /**
+     * Deal damage to one enemy, reduced by its defense (minimum 1).
+     *
+     * @return Health remaining
+     */
+    public int applyDamage(int handle, int rawDamage) {
+        int slot = slotOf(handle);
+        health[slot] = Math.max(0, health[slot] - Math.max(1, rawDamage - defense[slot]));
+        return health[slot];
+    }
+
+    public void multiplyStats(int handle, double multiplier) {
+        int slot = slotOf(handle);
+        health[slot] = (int) Math.round(health[slot] * multiplier);
+        damage[slot] = (int) Math.round(damage[slot] * multiplier);
+        defense[slot] = (int) Math.round(defense[slot] * multiplier);
+        speed[slot] = (int) Math.round(speed[slot] * multiplier);
+    }
+
+    /**
+     * Wrap a slot in a lightweight Enemy view.
+     * The view reads the columns on every call, it holds no copy of the stats.
+     */
+    public Enemy view(int handle) {
+        slotOf(handle);
+        return new View(this, handle);
+    }
+
+    // ============================================================
+    // BULK OPERATIONS (scan the columns directly)
+    // ============================================================
+
+    /**
+     * Deal the same raw damage to every live enemy (AoE), reduced by each one's defense.
+     *
+     * @return Number of enemies whose health reached 0 because of this hit
+     */
+    public int damageAll(int rawDamage) {
+        int killed = 0;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (live[slot] && health[slot] > 0) {
+                int hp = health[slot] - Math.max(1, rawDamage - defense[slot]);
+                if (hp <= 0) {
+                    hp = 0;
+                    killed++;
+                }
+                health[slot] = hp;
+            }
+        }
+        return killed;
+    }
+
+    /**
+     * Scale every live enemy's stats (e.g., a dungeon-wide difficulty bump).
+     */
+    public void multiplyAllStats(double multiplier) {
+        for (int slot = 0; slot < highWater; slot++) {
+            if (live[slot]) {
+                health[slot] = (int) Math.round(health[slot] * multiplier);
+                damage[slot] = (int) Math.round(damage[slot] * multiplier);
+                defense[slot] = (int) Math.round(defense[slot] * multiplier);
+                speed[slot] = (int) Math.round(speed[slot] * multiplier);
+            }
+        }
+    }
+
+    /**
+     * @return Sum of health over all live enemies
+     */
+    public long totalHealth() {
+        long total = 0;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (live[slot]) {
+                total += health[slot];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return Number of live enemies with health above 0
+     */
+    public int countAlive() {
+        int alive = 0;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (live[slot] && health[slot] > 0) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    /**
+     * @return Number of live enemies of the given element
+     */
+    public int countByElement(Element type) {
+        byte wanted = (byte) type.ordinal();
+        int count = 0;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (live[slot] && element[slot] == wanted) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Despawn every enemy whose health reached 0.
+     *
+     * @return Number of enemies removed
+     */
+    public int despawnDead() {
+        int removed = 0;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (live[slot] && health[slot] <= 0) {
+                despawn(handleOf(slot));
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Visit the handle of every live enemy.
+     */
+    public void forEachLive(IntConsumer action) {
+        for (int slot = 0; slot < highWater; slot++) {
+            if (live[slot]) {
+                action.accept(handleOf(slot));
+            }
+        }
+    }
+
+    // ============================================================
+    // INTERNALS
+    // ============================================================
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == names.length) {
+            grow();
+        }
+        return highWater++;
+    }
+
+    private void grow() {
+        if (names.length == MAX_CAPACITY) {
+            throw new IllegalStateException("EnemyStore is full (" + MAX_CAPACITY + " slots)!");
+        }
+        int newCapacity = (int) Math.min((long) names.length * 2, MAX_CAPACITY);
+        names = Arrays.copyOf(names, newCapacity);
+        health = Arrays.copyOf(health, newCapacity);
+        damage = Arrays.copyOf(damage, newCapacity);
+        defense = Arrays.copyOf(defense, newCapacity);
+        speed = Arrays.copyOf(speed, newCapacity);
+        element = Arrays.copyOf(element, newCapacity);
+        behavior = Arrays.copyOf(behavior, newCapacity);
+        generation = Arrays.copyOf(generation, newCapacity);
+        live = Arrays.copyOf(live, newCapacity);
+        abilities = Arrays.copyOf(abilities, newCapacity);
+        lootTables = Arrays.copyOf(lootTables, newCapacity);
+    }
+
+    private int handleOf(int slot) {
+        return (generation[slot] << INDEX_BITS) | slot;
+    }
+
+    private int slotOf(int handle) {
+        if (!isValid(handle)) {
+            throw new IllegalStateException("Stale or invalid enemy handle: " + handle);
+        }
+        return handle & INDEX_MASK;
+    }
+
+    /**
+     * Enemy view over one slot of the store.
+     */
+    private static final class View implements Enemy {
+
+        private static final OperationMetrics CLONE_METRICS = Metrics.CLONES.get("EnemyStore.View");
+
+        private final EnemyStore store;
+        private final int handle;
+
+        private View(EnemyStore store, int handle) {
+            this.store = store;
+            this.handle = handle;
+        }
+
+        @Override
+        public String getName() {
+            return store.getName(handle);
+        }
+
+        @Override
+        public int getHealth() {
+            return store.getHealth(handle);
+        }
+
+        @Override
+        public int getDamage() {
+            return store.getDamage(handle);
+        }
+
+        @Override
+        public int getDefense() {
+            return store.getDefense(handle);
+        }
+
+        @Override
+        public int getSpeed() {
+            return store.getSpeed(handle);
+        }
+
+        @Override
+        public Element getElement() {
+            return store.getElement(handle);
+        }
+
+        @Override
+        public AIBehavior getAIBehavior() {
+            return store.getAIBehavior(handle);
+        }
+
+        @Override
+        public List<Ability> getAbilities() {
+            return store.getAbilities(handle);
+        }
+
+        @Override
+        public int abilityCount() {
+            return store.getAbilities(handle).size();
+        }
+
+        @Override
+        public Ability abilityAt(int index) {
+            return store.getAbilities(handle).get(index);
+        }
+
+        @Override
+        public LootTable getLootTable() {
+            return store.getLootTable(handle);
+        }
+
+        @Override
+        public void displayInfo() {
+            TextEnemyRenderer.print(this, "Stored #" + handle, store.getElement(handle).name());
+        }
+
+        /**
+         * Clones into a NEW slot of the same store and returns a view over it.
+         */
+        @Override
+        public Enemy clone() {
+            long start = Metrics.start();
+            int slot = store.slotOf(handle);
+            int copy = store.spawn(store.names[slot], store.health[slot], store.damage[slot],
+                    store.defense[slot], store.speed[slot], Element.byOrdinal(store.element[slot]),
+                    AIBehavior.byOrdinal(store.behavior[slot]), store.getAbilities(handle), store.lootTables[slot]);
+            CLONE_METRICS.stop(start);
+            return new View(store, copy);
+        }
+
+        @Override
+        public void multiplyStats(double multiplier) {
+            store.multiplyStats(handle, multiplier);
+        }
+
+        @Override
+        public String toString() {
+            return "EnemyStore.View [" + getName() + " #" + handle + "]";
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.narxoz.rpg.enemy;
 
+import com.narxoz.rpg.combat.AIBehavior;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.combat.Element;
 import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.OperationMetrics;
+import com.narxoz.rpg.render.TextEnemyRenderer;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
 
 /**
  * Example basic enemy implementation — a simple Goblin.
@@ -55,16 +62,21 @@ import java.util.ArrayList;
  */
 public class Goblin implements Enemy {
 
+    private static final OperationMetrics CLONE_METRICS = Metrics.CLONES.get("Goblin");
+
     private String name;
     private int health;
     private int damage;
     private int defense;
     private int speed;
+    private Element element;
+    private AIBehavior aiBehavior;
+    // Never mutated: addAbility() replaces it with a grown copy. So clones,
+    // pooled resets and concurrent spawners can share it without any flag
+    // or lock, and cloning never writes to the template.
     private List<Ability> abilities;
     private LootTable lootTable;
 
-    // TODO: Add more fields as needed (element, AI behavior, etc.)
-
     public Goblin(String name) {
         this.name = name;
         // Goblin stats: weak but fast
@@ -72,10 +84,27 @@ public class Goblin implements Enemy {
         this.damage = 15;
         this.defense = 5;
         this.speed = 35;
-        this.abilities = new ArrayList<>();
+        this.element = Element.NONE;
+        this.aiBehavior = AIBehavior.NEUTRAL;
+        this.abilities = Collections.emptyList();
         this.lootTable = null;
     }
 
+    /**
+     * Copy constructor used by clone(): shares the immutable ability list.
+     */
+    private Goblin(Goblin source) {
+        this.name = source.name;
+        this.health = source.health;
+        this.damage = source.damage;
+        this.defense = source.defense;
+        this.speed = source.speed;
+        this.element = source.element;
+        this.aiBehavior = source.aiBehavior;
+        this.abilities = source.abilities;
+        this.lootTable = source.lootTable;
+    }
+
     // TODO: Implement methods from Enemy interface
     // You need to define those methods in Enemy first!
 
@@ -100,8 +129,24 @@ public class Goblin implements Enemy {
         return speed;
     }
 
+    public Element getElement() {
+        return element;
+    }
+
+    public AIBehavior getAIBehavior() {
+        return aiBehavior;
+    }
+
     public List<Ability> getAbilities() {
-        return new ArrayList<>(abilities);
+        return abilities;
+    }
+
+    public int abilityCount() {
+        return abilities.size();
+    }
+
+    public Ability abilityAt(int index) {
+        return abilities.get(index);
     }
 
     public LootTable getLootTable() {
@@ -109,36 +154,36 @@ public class Goblin implements Enemy {
     }
 
     public void displayInfo() {
-        System.out.println("=== " + name + " (Goblin) ===");
-        System.out.println("Health: " + health + " | Damage: " + damage
-                + " | Defense: " + defense + " | Speed: " + speed);
-        System.out.println("Abilities (" + abilities.size() + "):");
-        for (Ability ability : abilities) {
-            System.out.println("  - " + ability.getName() + ": " + ability.getDescription());
-        }
-        if (lootTable != null) {
-            System.out.println(lootTable.getLootInfo());
-        } else {
-            System.out.println("Loot: None");
-        }
+        TextEnemyRenderer.print(this);
     }
 
     public Enemy clone() {
-        Goblin copy = new Goblin(this.name);
-        copy.health = this.health;
-        copy.damage = this.damage;
-        copy.defense = this.defense;
-        copy.speed = this.speed;
-
-        copy.abilities = new ArrayList<>();
-        for (Ability ability : this.abilities) {
-            copy.abilities.add(ability.clone());
-        }
-
-        copy.lootTable = this.lootTable != null ? this.lootTable.clone() : null;
+        // Copy-on-write: share the ability list and loot table instead of
+        // deep-copying them. Both are immutable, so neither side can see the
+        // other's later changes, and the original is never written to.
+        long start = Metrics.start();
+        Goblin copy = new Goblin(this);
+        CLONE_METRICS.stop(start);
         return copy;
     }
 
+    public boolean resetFrom(Enemy template) {
+        if (!(template instanceof Goblin)) {
+            return false;
+        }
+        Goblin source = (Goblin) template;
+        this.name = source.name;
+        this.health = source.health;
+        this.damage = source.damage;
+        this.defense = source.defense;
+        this.speed = source.speed;
+        this.element = source.element;
+        this.aiBehavior = source.aiBehavior;
+        this.abilities = source.abilities;
+        this.lootTable = source.lootTable;
+        return true;
+    }
+
     public void multiplyStats(double multiplier) {
         this.health = (int) Math.round(this.health * multiplier);
         this.damage = (int) Math.round(this.damage * multiplier);
@@ -148,11 +193,30 @@ public class Goblin implements Enemy {
 
     public void addAbility(Ability ability) {
         if (ability != null) {
-            this.abilities.add(ability);
+            List<Ability> grown = new ArrayList<>(abilities.size() + 1);
+            grown.addAll(abilities);
+            grown.add(AbilityCatalog.intern(ability));
+            this.abilities = Collections.unmodifiableList(grown);
         }
     }
 
+    /**
+     * Replace all abilities at once (one copy, unlike repeated addAbility()).
+     */
+    public void setAbilities(List<Ability> abilities) {
+        List<Ability> own = new ArrayList<>(abilities != null ? abilities.size() : 0);
+        if (abilities != null) {
+            for (Ability ability : abilities) {
+                if (ability != null) {
+                    own.add(AbilityCatalog.intern(ability));
+                }
+            }
+        }
+        this.abilities = Collections.unmodifiableList(own);
+    }
+
     public void setLootTable(LootTable lootTable) {
+        // Replaces only this enemy's reference; a shared table is never touched.
         this.lootTable = lootTable;
     }
 
@@ -173,4 +237,12 @@ public class Goblin implements Enemy {
         this.speed = speed;
     }
 
+    public void setElement(Element element) {
+        this.element = element != null ? element : Element.NONE;
+    }
+
+    public void setAIBehavior(AIBehavior aiBehavior) {
+        this.aiBehavior = aiBehavior != null ? aiBehavior : AIBehavior.NEUTRAL;
+    }
+
 }
@@ -0,0 +1,139 @@
+package com.narxoz.rpg.enemy;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable, sorted table of boss phases.
+ *
+ * A phase activates when the boss's health drops to (or below) its
+ * threshold. Phases are stored as two parallel primitive arrays sorted by
+ * threshold, highest first:
+ *
+ *   index:      0      1      2
+ *   phase:      1      2      3
+ *   threshold:  10000  5000   2500
+ *
+ * The first phase is active while health is above every threshold.
+ * Looking up the phase for a health value is a binary search (O(log n));
+ * bosses tracking their phase while taking damage keep a cursor and call
+ * nextIndex(cursor, health) instead, which is O(1) per hit. No boxing anywhere.
+ *
+ * Being immutable, one table is shared by a template and all its clones.
+ */
+public final class PhaseTable {
+
+    private final int[] phaseNumbers;
+    private final int[] thresholds;
+
+    /**
+     * @param phaseNumbers Phase numbers (any order)
+     * @param thresholds Health threshold of each phase, same order as phaseNumbers
+     */
+    public PhaseTable(int[] phaseNumbers, int[] thresholds) {
+        if (phaseNumbers.length != thresholds.length) {
+            throw new IllegalArgumentException("Every phase needs exactly one threshold!");
+        }
+        if (phaseNumbers.length == 0) {
+            throw new IllegalArgumentException("Boss must have at least one phase!");
+        }
+        // Sort indices by threshold (desc), then phase number (asc)
+        Integer[] order = new Integer[phaseNumbers.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> thresholds[a] != thresholds[b]
+                ? Integer.compare(thresholds[b], thresholds[a])
+                : Integer.compare(phaseNumbers[a], phaseNumbers[b]));
+        this.phaseNumbers = new int[order.length];
+        this.thresholds = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            this.phaseNumbers[i] = phaseNumbers[order[i]];
+            this.thresholds[i] = thresholds[order[i]];
+        }
+    }
+
+    /**
+     * Build a table from a phaseNumber -> healthThreshold map (builder format).
+     */
+    public static PhaseTable fromMap(Map<Integer, Integer> phases) {
+        int[] numbers = new int[phases.size()];
+        int[] thresholds = new int[phases.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> phase : phases.entrySet()) {
+            numbers[i] = phase.getKey();
+            thresholds[i] = phase.getValue();
+            i++;
+        }
+        return new PhaseTable(numbers, thresholds);
+    }
+
+    /**
+     * @return Number of phases
+     */
+    public int size() {
+        return phaseNumbers.length;
+    }
+
+    public int phaseNumberAt(int index) {
+        return phaseNumbers[index];
+    }
+
+    public int thresholdAt(int index) {
+        return thresholds[index];
+    }
+
+    /**
+     * Binary search for the phase active at a given health.
+     *
+     * @return Index (not phase number) of the active phase
+     */
+    public int indexForHealth(int health) {
+        // Last index whose threshold is >= health; thresholds are descending
+        int low = 0;
+        int high = thresholds.length - 1;
+        int found = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] >= health) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return Phase number active at a given health
+     */
+    public int phaseForHealth(int health) {
+        return phaseNumbers[indexForHealth(health)];
+    }
+
+    /**
+     * Move a phase cursor forward after health dropped.
+     * Only ever moves forward, so every phase is entered at most once.
+     *
+     * @param cursor Index of the currently active phase
+     * @param health Health after the hit
+     * @return Index of the next phase to enter, or cursor if no threshold was crossed
+     */
+    public int nextIndex(int cursor, int health) {
+        int next = cursor + 1;
+        return next < thresholds.length && thresholds[next] >= health ? next : cursor;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PhaseTable [");
+        for (int i = 0; i < phaseNumbers.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(phaseNumbers[i]).append('@').append(thresholds[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.narxoz.rpg.enemy;
+
+/**
+ * Callback fired when a boss crosses into a new phase.
+ *
+ * Called exactly once per phase entered, in order. If one hit skips
+ * several thresholds, each intermediate transition is reported.
+ * Plain int parameters, so the damage path never boxes.
+ */
+@FunctionalInterface
+public interface PhaseTransitionListener {
+
+    /**
+     * @param boss The boss that changed phase
+     * @param fromPhase Phase number before the transition
+     * @param toPhase Phase number after the transition
+     */
+    void onPhaseChange(DragonBoss boss, int fromPhase, int toPhase);
+}
@@ -1,21 +1,35 @@
 package com.narxoz.rpg.enemy;
 
+import com.narxoz.rpg.combat.AIBehavior;
 import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.combat.Element;
 import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.OperationMetrics;
+import com.narxoz.rpg.render.TextEnemyRenderer;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
 
 /**
  * Skeleton enemy - another basic enemy type for variety.
  */
 public class Skeleton implements Enemy {
 
+    private static final OperationMetrics CLONE_METRICS = Metrics.CLONES.get("Skeleton");
+
     private String name;
     private int health;
     private int damage;
     private int defense;
     private int speed;
+    private Element element;
+    private AIBehavior aiBehavior;
+    // Never mutated: addAbility() replaces it with a grown copy. So clones,
+    // pooled resets and concurrent spawners can share it without any flag
+    // or lock, and cloning never writes to the template.
     private List<Ability> abilities;
     private LootTable lootTable;
 
@@ -26,10 +40,27 @@ public class Skeleton implements Enemy {
         this.damage = 20;
         this.defense = 10;
         this.speed = 30;
-        this.abilities = new ArrayList<>();
+        this.element = Element.NONE;
+        this.aiBehavior = AIBehavior.NEUTRAL;
+        this.abilities = Collections.emptyList();
         this.lootTable = null;
     }
 
+    /**
+     * Copy constructor used by clone(): shares the immutable ability list.
+     */
+    private Skeleton(Skeleton source) {
+        this.name = source.name;
+        this.health = source.health;
+        this.damage = source.damage;
+        this.defense = source.defense;
+        this.speed = source.speed;
+        this.element = source.element;
+        this.aiBehavior = source.aiBehavior;
+        this.abilities = source.abilities;
+        this.lootTable = source.lootTable;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -55,9 +86,29 @@ public class Skeleton implements Enemy {
         return speed;
     }
 
+    @Override
+    public Element getElement() {
+        return element;
+    }
+
+    @Override
+    public AIBehavior getAIBehavior() {
+        return aiBehavior;
+    }
+
     @Override
     public List<Ability> getAbilities() {
-        return new ArrayList<>(abilities);
+        return abilities;
+    }
+
+    @Override
+    public int abilityCount() {
+        return abilities.size();
+    }
+
+    @Override
+    public Ability abilityAt(int index) {
+        return abilities.get(index);
     }
 
     @Override
@@ -67,37 +118,39 @@ public class Skeleton implements Enemy {
 
     @Override
     public void displayInfo() {
-        System.out.println("=== " + name + " (Skeleton) ===");
-        System.out.println("Health: " + health + " | Damage: " + damage
-                + " | Defense: " + defense + " | Speed: " + speed);
-        System.out.println("Abilities (" + abilities.size() + "):");
-        for (Ability ability : abilities) {
-            System.out.println("  - " + ability.getName() + ": " + ability.getDescription());
-        }
-        if (lootTable != null) {
-            System.out.println(lootTable.getLootInfo());
-        } else {
-            System.out.println("Loot: None");
-        }
+        TextEnemyRenderer.print(this);
     }
 
     @Override
     public Enemy clone() {
-        Skeleton copy = new Skeleton(this.name);
-        copy.health = this.health;
-        copy.damage = this.damage;
-        copy.defense = this.defense;
-        copy.speed = this.speed;
-
-        copy.abilities = new ArrayList<>();
-        for (Ability ability : this.abilities) {
-            copy.abilities.add(ability.clone());
-        }
-
-        copy.lootTable = this.lootTable != null ? this.lootTable.clone() : null;
+        // Copy-on-write: share the ability list and loot table instead of
+        // deep-copying them. Both are immutable, so neither side can see the
+        // other's later changes, and the original is never written to.
+        long start = Metrics.start();
+        Skeleton copy = new Skeleton(this);
+        CLONE_METRICS.stop(start);
         return copy;
     }
 
+    @Override
+    public boolean resetFrom(Enemy template) {
+        if (!(template instanceof Skeleton)) {
+            return false;
+        }
+        Skeleton source = (Skeleton) template;
+        this.name = source.name;
+        this.health = source.health;
+        this.damage = source.damage;
+        this.defense = source.defense;
+        this.speed = source.speed;
+        this.element = source.element;
+        this.aiBehavior = source.aiBehavior;
+        this.abilities = source.abilities;
+        this.lootTable = source.lootTable;
+        return true;
+    }
+
+    @Override
     public void multiplyStats(double multiplier) {
         this.health = (int) Math.round(this.health * multiplier);
         this.damage = (int) Math.round(this.damage * multiplier);
@@ -107,11 +160,55 @@ public class Skeleton implements Enemy {
 
     public void addAbility(Ability ability) {
         if (ability != null) {
-            this.abilities.add(ability);
+            List<Ability> grown = new ArrayList<>(abilities.size() + 1);
+            grown.addAll(abilities);
+            grown.add(AbilityCatalog.intern(ability));
+            this.abilities = Collections.unmodifiableList(grown);
+        }
+    }
+
+    /**
+     * Replace all abilities at once (one copy, unlike repeated addAbility()).
+     */
+    public void setAbilities(List<Ability> abilities) {
+        List<Ability> own = new ArrayList<>(abilities != null ? abilities.size() : 0);
+        if (abilities != null) {
+            for (Ability ability : abilities) {
+                if (ability != null) {
+                    own.add(AbilityCatalog.intern(ability));
+                }
+            }
         }
+        this.abilities = Collections.unmodifiableList(own);
     }
 
     public void setLootTable(LootTable lootTable) {
+        // Replaces only this enemy's reference; a shared table is never touched.
         this.lootTable = lootTable;
     }
+
+    // Public setters for builders and decoders
+    public void setHealthValue(int health) {
+        this.health = health;
+    }
+
+    public void setDamageValue(int damage) {
+        this.damage = damage;
+    }
+
+    public void setDefenseValue(int defense) {
+        this.defense = defense;
+    }
+
+    public void setSpeedValue(int speed) {
+        this.speed = speed;
+    }
+
+    public void setElement(Element element) {
+        this.element = element != null ? element : Element.NONE;
+    }
+
+    public void setAIBehavior(AIBehavior aiBehavior) {
+        this.aiBehavior = aiBehavior != null ? aiBehavior : AIBehavior.NEUTRAL;
+    }
 }
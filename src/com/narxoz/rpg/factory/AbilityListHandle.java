@@ -0,0 +1,59 @@
+package com.narxoz.rpg.factory;
+
+import com.narxoz.rpg.combat.Ability;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Copy-on-write view of a family's shared ability list. Reads go straight
+ * to the shared list; the first add, set or remove copies it into a list of
+ * this handle's own, so one caller's edits never reach another enemy.
+ */
+final class AbilityListHandle extends AbstractList<Ability> implements RandomAccess {
+
+    private List<Ability> abilities;
+    private boolean shared = true;
+
+    AbilityListHandle(List<Ability> shared) {
+        this.abilities = shared;
+    }
+
+    @Override
+    public Ability get(int index) {
+        return abilities.get(index);
+    }
+
+    @Override
+    public int size() {
+        return abilities.size();
+    }
+
+    @Override
+    public Ability set(int index, Ability ability) {
+        return own().set(index, ability);
+    }
+
+    @Override
+    public void add(int index, Ability ability) {
+        own().add(index, ability);
+        modCount++;
+    }
+
+    @Override
+    public Ability remove(int index) {
+        Ability removed = own().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    private List<Ability> own() {
+        if (shared) {
+            this.abilities = new ArrayList<>(abilities);
+            this.shared = false;
+        }
+        return abilities;
+    }
+}
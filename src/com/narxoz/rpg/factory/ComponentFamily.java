@@ -0,0 +1,103 @@
+package com.narxoz.rpg.factory;
+
+import com.narxoz.rpg.combat.AIBehavior;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One theme's matching components, built once and shared by every enemy of
+ * that theme: the interned abilities, the loot table and the AI behavior.
+ *
+ * Immutable. Abilities are catalog flyweights and loot tables have no
+ * mutators, so handing the same instances to every enemy is safe; callers
+ * that need to edit the ability list get a copy-on-write handle instead.
+ */
+public final class ComponentFamily {
+
+    private final String name;
+    private final List<Ability> abilities;
+    private final LootTable lootTable;
+    private final AIBehavior aiBehavior;
+
+    ComponentFamily(String name, List<Ability> abilities, LootTable lootTable, AIBehavior aiBehavior) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Theme name is required!");
+        }
+        if (lootTable == null) {
+            throw new IllegalArgumentException("Theme '" + name + "' needs a loot table!");
+        }
+        List<Ability> interned = new ArrayList<>(abilities == null ? 0 : abilities.size());
+        if (abilities != null) {
+            for (Ability ability : abilities) {
+                if (ability == null) {
+                    throw new IllegalArgumentException("Theme '" + name + "' has a null ability!");
+                }
+                interned.add(AbilityCatalog.intern(ability));
+            }
+        }
+        this.name = name;
+        this.abilities = Collections.unmodifiableList(interned);
+        this.lootTable = lootTable;
+        this.aiBehavior = aiBehavior != null ? aiBehavior : AIBehavior.NEUTRAL;
+    }
+
+    /**
+     * Snapshot the family of any factory: each create method is called once.
+     *
+     * @param name Display name of the theme, e.g. "Fire"
+     */
+    public static ComponentFamily of(String name, EnemyComponentFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null!");
+        }
+        if (factory instanceof ThemedComponentFactory) {
+            return ((ThemedComponentFactory) factory).getFamily();
+        }
+        return new ComponentFamily(name, factory.createAbilities(), factory.createLootTable(),
+                factory.createAIBehavior());
+    }
+
+    /**
+     * @return Display name of the theme, e.g. "Fire"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The shared, unmodifiable ability list
+     */
+    public List<Ability> getAbilities() {
+        return abilities;
+    }
+
+    /**
+     * @return A list that reads through to the shared abilities and copies
+     *         them only when first modified
+     */
+    public List<Ability> abilitiesHandle() {
+        return new AbilityListHandle(abilities);
+    }
+
+    /**
+     * @return The shared loot table
+     */
+    public LootTable getLootTable() {
+        return lootTable;
+    }
+
+    public AIBehavior getAIBehavior() {
+        return aiBehavior;
+    }
+
+    @Override
+    public String toString() {
+        return name + " family [Abilities: " + abilities.size() + ", Loot: " + lootTable.itemCount()
+                + " items, AI: " + aiBehavior + "]";
+    }
+}
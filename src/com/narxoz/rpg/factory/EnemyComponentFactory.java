@@ -1,5 +1,6 @@
 package com.narxoz.rpg.factory;
 
+import com.narxoz.rpg.combat.AIBehavior;
 import com.narxoz.rpg.combat.Ability;
 import com.narxoz.rpg.loot.LootTable;
 
@@ -62,6 +63,15 @@ import java.util.List;
  * Think: How is this similar to HW1's EquipmentFactory?
  * Think: What ensures a Fire enemy never gets Ice loot?
  * Think: How easy is it to add a new theme (e.g., NatureComponentFactory)?
+ *
+ * ============================================================
+ * SHARED FAMILIES:
+ * ============================================================
+ *
+ * The built-in themes live in ThemeRegistry: each family is built once and
+ * shared, so createLootTable() returns the same immutable table every time
+ * and createAbilities() a copy-on-write handle over the shared list. A new
+ * theme is one ThemeRegistry.register(...) call, no new class needed.
  */
 public interface EnemyComponentFactory {
 
@@ -83,13 +93,13 @@ public interface EnemyComponentFactory {
 
     /**
      * Get the AI behavior type for this theme.
-     * Example: FireComponentFactory returns "AGGRESSIVE"
+     * Example: FireComponentFactory returns AGGRESSIVE
      *
-     * Think: Should this return a String, an enum, or an object?
-     * Design decision is yours!
+     * An enum, so combat code can switch or index on it instead of
+     * comparing strings.
      *
-     * @return AI behavior description or type
+     * @return AI behavior type
      */
-    String createAIBehavior();
+    AIBehavior createAIBehavior();
 
 }
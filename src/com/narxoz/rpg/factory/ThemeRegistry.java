@@ -0,0 +1,106 @@
+package com.narxoz.rpg.factory;
+
+import com.narxoz.rpg.combat.AIBehavior;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.combat.AbilityCatalog;
+import com.narxoz.rpg.loot.FireLootTable;
+import com.narxoz.rpg.loot.IceLootTable;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.loot.ShadowLootTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide table of component families, one per theme.
+ *
+ * Each family is built once, when its theme is registered, and every
+ * factory for that theme hands out the same abilities, loot table and AI
+ * behavior from then on. A new theme is a register() call, not a new
+ * factory class. Theme names are case-insensitive; the name given to
+ * register() is kept as the display name.
+ *
+ * "Fire", "Ice" and "Shadow" are registered when the class loads.
+ * Thread-safe: lookups never block, and a theme can be registered once.
+ *
+ * Usage:
+ *   EnemyComponentFactory poison = ThemeRegistry.register("Poison",
+ *           List.of(venomSpit), new ThemedLootTable("Poison", drops, 300, 150), AIBehavior.AGGRESSIVE);
+ *   EnemyComponentFactory fire = ThemeRegistry.factory("fire");
+ */
+public final class ThemeRegistry {
+
+    private static final Map<String, ThemedComponentFactory> THEMES = new ConcurrentHashMap<>();
+
+    static {
+        register("Fire", List.of(AbilityCatalog.FLAME_BREATH, AbilityCatalog.FIRE_SHIELD),
+                new FireLootTable(), AIBehavior.AGGRESSIVE);
+        register("Ice", List.of(AbilityCatalog.FROST_BREATH, AbilityCatalog.ICE_SHIELD),
+                new IceLootTable(), AIBehavior.DEFENSIVE);
+        register("Shadow", List.of(AbilityCatalog.SHADOW_STRIKE, AbilityCatalog.VANISH),
+                new ShadowLootTable(), AIBehavior.TACTICAL);
+    }
+
+    private ThemeRegistry() {
+    }
+
+    /**
+     * Register a theme and build its family.
+     *
+     * @return The factory for the new theme
+     * @throws IllegalArgumentException if the theme is already registered
+     */
+    public static ThemedComponentFactory register(String theme, List<Ability> abilities,
+                                                  LootTable lootTable, AIBehavior aiBehavior) {
+        ThemedComponentFactory factory =
+                new ThemedComponentFactory(new ComponentFamily(theme, abilities, lootTable, aiBehavior));
+        if (THEMES.putIfAbsent(key(theme), factory) != null) {
+            throw new IllegalArgumentException("Theme '" + theme + "' is already registered!");
+        }
+        return factory;
+    }
+
+    /**
+     * @return The factory for a registered theme
+     * @throws IllegalArgumentException if the theme is unknown
+     */
+    public static ThemedComponentFactory factory(String theme) {
+        ThemedComponentFactory factory = theme == null ? null : THEMES.get(key(theme));
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown theme '" + theme + "'!");
+        }
+        return factory;
+    }
+
+    /**
+     * @return The family of a registered theme, or null if it is unknown
+     */
+    public static ComponentFamily family(String theme) {
+        ThemedComponentFactory factory = theme == null ? null : THEMES.get(key(theme));
+        return factory == null ? null : factory.getFamily();
+    }
+
+    public static boolean contains(String theme) {
+        return theme != null && THEMES.containsKey(key(theme));
+    }
+
+    /**
+     * @return Display names of every registered theme, sorted
+     */
+    public static List<String> themes() {
+        List<String> names = new ArrayList<>(THEMES.size());
+        for (ThemedComponentFactory factory : THEMES.values()) {
+            names.add(factory.getTheme());
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    private static String key(String theme) {
+        return theme.toLowerCase(Locale.ROOT);
+    }
+}
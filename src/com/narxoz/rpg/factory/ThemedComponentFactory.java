@@ -0,0 +1,72 @@
+package com.narxoz.rpg.factory;
+
+import com.narxoz.rpg.combat.AIBehavior;
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.util.List;
+
+/**
+ * Component factory for a theme registered in ThemeRegistry. Hands out the
+ * theme's shared components instead of building new ones on every call:
+ * - createAbilities() returns a copy-on-write handle over the shared list
+ * - createLootTable() returns the shared (immutable) loot table
+ * - createAIBehavior() returns the theme's behavior
+ *
+ * The create methods are final: whatever the subclass, a factory hands out
+ * exactly its family's components, which is what lets EnemyDirector cache
+ * blueprints per family. Two factories are equal when they serve the same
+ * family.
+ */
+public class ThemedComponentFactory implements EnemyComponentFactory {
+
+    private final ComponentFamily family;
+
+    public ThemedComponentFactory(ComponentFamily family) {
+        if (family == null) {
+            throw new IllegalArgumentException("Component family cannot be null!");
+        }
+        this.family = family;
+    }
+
+    @Override
+    public final List<Ability> createAbilities() {
+        return family.abilitiesHandle();
+    }
+
+    @Override
+    public final LootTable createLootTable() {
+        return family.getLootTable();
+    }
+
+    @Override
+    public final AIBehavior createAIBehavior() {
+        return family.getAIBehavior();
+    }
+
+    public ComponentFamily getFamily() {
+        return family;
+    }
+
+    /**
+     * @return Display name of the theme, e.g. "Fire"
+     */
+    public String getTheme() {
+        return family.getName();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ThemedComponentFactory && ((ThemedComponentFactory) other).family == family;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(family);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + family.getName() + "]";
+    }
+}
@@ -0,0 +1,94 @@
+package com.narxoz.rpg.loot;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker/Vose alias table: samples an index from a discrete weighted
+ * distribution in O(1), whatever the number of outcomes.
+ *
+ * Building costs O(n) once; every sample() is one random column plus one
+ * biased coin flip, with no allocation.
+ *
+ * Usage:
+ *   AliasTable table = new AliasTable(new double[] {100, 40, 10});
+ *   int index = table.sample(random);   // 0 about 66% of the time
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights Non-negative weights, at least one positive
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Alias table needs at least one weight!");
+        }
+        double sum = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and non-negative!");
+            }
+            sum += weight;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive!");
+        }
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Leftovers are 1.0 up to rounding error
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+    }
+
+    /**
+     * @return Number of outcomes
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * @return A weighted random index in [0, size())
+     */
+    public int sample(RandomGenerator random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
@@ -1,7 +1,9 @@
 package com.narxoz.rpg.loot;
 
+import com.narxoz.rpg.render.TextEnemyRenderer;
+
+import java.util.Collections;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Ice-themed loot table.
@@ -9,28 +11,51 @@ import java.util.ArrayList;
  */
 public class IceLootTable implements LootTable {
 
-    private List<String> items;
-    private int goldDrop;
-    private int experienceDrop;
+    /**
+     * Drop odds shared by every IceLootTable: the rune always drops, plus one
+     * weighted pick between the gem and the frost scale.
+     */
+    private static final WeightedLoot DROPS = WeightedLoot.builder()
+            .item("Ice Gem", Rarity.RARE)
+            .item("Frost Scale", Rarity.UNCOMMON)
+            .guaranteed("Ice Rune", Rarity.COMMON)
+            .gold(360, 540)
+            .experience(202, 247)
+            .build();
+
+    /** Item ids (and their names) shared by every instance; never modified. */
+    private static final int[] ITEM_IDS = ItemDictionary.internAll("Ice Gem", "Frost Scale", "Ice Rune");
+    private static final List<String> ITEM_NAMES = Collections.unmodifiableList(ItemDictionary.namesOf(ITEM_IDS));
+
+    private final int[] itemIds;
+    private final int goldDrop;
+    private final int experienceDrop;
 
     public IceLootTable() {
-        this.items = new ArrayList<>();
-        this.items.add("Ice Gem");
-        this.items.add("Frost Scale");
-        this.items.add("Ice Rune");
+        this.itemIds = ITEM_IDS;
         this.goldDrop = 450;
         this.experienceDrop = 225;
     }
 
-    private IceLootTable(List<String> items, int goldDrop, int experienceDrop) {
-        this.items = new ArrayList<>(items);
+    private IceLootTable(int[] itemIds, int goldDrop, int experienceDrop) {
+        this.itemIds = itemIds;
         this.goldDrop = goldDrop;
         this.experienceDrop = experienceDrop;
     }
 
     @Override
     public List<String> getItems() {
-        return new ArrayList<>(items);
+        return ITEM_NAMES;
+    }
+
+    @Override
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    @Override
+    public int itemIdAt(int index) {
+        return itemIds[index];
     }
 
     @Override
@@ -43,23 +68,24 @@ public class IceLootTable implements LootTable {
         return experienceDrop;
     }
 
+    @Override
+    public WeightedLoot getDrops() {
+        return DROPS;
+    }
+
     @Override
     public String getLootInfo() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("=== Ice Loot ===\n");
-        sb.append("Items: ").append(items).append("\n");
-        sb.append("Gold: ").append(goldDrop).append("\n");
-        sb.append("Experience: ").append(experienceDrop);
-        return sb.toString();
+        return TextEnemyRenderer.lootInfo(this);
     }
 
     @Override
     public LootTable clone() {
-        return new IceLootTable(new ArrayList<>(this.items), this.goldDrop, this.experienceDrop);
+        // The id array is immutable, so the copy can share it
+        return new IceLootTable(this.itemIds, this.goldDrop, this.experienceDrop);
     }
 
     @Override
     public String toString() {
-        return String.format("IceLootTable [Items: %s, Gold: %d, XP: %d]", items, goldDrop, experienceDrop);
+        return String.format("IceLootTable [Items: %s, Gold: %d, XP: %d]", getItems(), goldDrop, experienceDrop);
     }
 }
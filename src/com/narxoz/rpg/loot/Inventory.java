@@ -0,0 +1,118 @@
+package com.narxoz.rpg.loot;
+
+import java.util.Arrays;
+
+/**
+ * Running totals of looted items, gold and experience.
+ *
+ * Item counts live in a long[] indexed by ItemDictionary id, so adding a
+ * drop is one array increment; names are only resolved by toString().
+ * Not thread-safe: give each thread (or recipient) its own inventory and
+ * merge them with addAll().
+ *
+ * Usage:
+ *   Inventory bag = new Inventory();
+ *   bag.add(enemy.getLootTable().roll(random, roll));
+ *   long gems = bag.count(ItemDictionary.idOf("Fire Gem"));
+ */
+public class Inventory {
+
+    private long[] counts;
+    private long gold;
+    private long experience;
+
+    public Inventory() {
+        this.counts = new long[Math.max(16, ItemDictionary.size())];
+    }
+
+    /**
+     * Add every item, the gold and the experience of one roll.
+     */
+    public void add(LootRoll roll) {
+        for (int i = 0; i < roll.itemCount(); i++) {
+            addItem(roll.itemIdAt(i), 1);
+        }
+        gold += roll.getGold();
+        experience += roll.getExperience();
+    }
+
+    public void addItem(int itemId, long quantity) {
+        if (itemId < 0) {
+            throw new IllegalArgumentException("Unknown item id: " + itemId);
+        }
+        if (itemId >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(itemId + 1, counts.length * 2));
+        }
+        counts[itemId] += quantity;
+    }
+
+    public void addGold(long amount) {
+        gold += amount;
+    }
+
+    public void addExperience(long amount) {
+        experience += amount;
+    }
+
+    /**
+     * Merge another inventory's totals into this one.
+     */
+    public void addAll(Inventory other) {
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int id = 0; id < other.counts.length; id++) {
+            counts[id] += other.counts[id];
+        }
+        gold += other.gold;
+        experience += other.experience;
+    }
+
+    /**
+     * @return How many of this item were collected
+     */
+    public long count(int itemId) {
+        return itemId >= 0 && itemId < counts.length ? counts[itemId] : 0;
+    }
+
+    /**
+     * @return Total number of items, all kinds together
+     */
+    public long totalItems() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public long getGold() {
+        return gold;
+    }
+
+    public long getExperience() {
+        return experience;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        gold = 0;
+        experience = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Inventory [Items: {");
+        boolean first = true;
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] != 0) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(ItemDictionary.nameOf(id)).append(" x").append(counts[id]);
+                first = false;
+            }
+        }
+        return sb.append(String.format("}, Gold: %d, XP: %d]", gold, experience)).toString();
+    }
+}
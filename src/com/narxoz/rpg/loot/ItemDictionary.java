@@ -0,0 +1,116 @@
+package com.narxoz.rpg.loot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Global dictionary of loot item names.
+ *
+ * Every distinct item name gets a small, dense integer id. Loot tables,
+ * rolls and inventories store those ids instead of strings, so a cloned
+ * enemy no longer carries its own copy of the item list and counting
+ * drops is plain array indexing. Names are looked up again only for
+ * display.
+ *
+ * Ids are assigned in registration order and never change or get reused
+ * while the JVM runs. They are NOT stable across runs, so do not persist
+ * them without the names.
+ *
+ * Usage:
+ *   int gem = ItemDictionary.intern("Fire Gem");      // e.g. 0
+ *   String name = ItemDictionary.nameOf(gem);         // "Fire Gem"
+ *   int same = ItemDictionary.idOf("Fire Gem");       // 0, throws if unknown
+ */
+public final class ItemDictionary {
+
+    private static final Object LOCK = new Object();
+    private static final Map<String, Integer> idsByName = new HashMap<>();
+    private static volatile String[] names = new String[0];
+
+    private ItemDictionary() {
+    }
+
+    /**
+     * @return The id of this item name, registering it if it is new
+     */
+    public static int intern(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Item name cannot be empty!");
+        }
+        synchronized (LOCK) {
+            Integer id = idsByName.get(name);
+            if (id != null) {
+                return id;
+            }
+            String[] grown = Arrays.copyOf(names, names.length + 1);
+            grown[grown.length - 1] = name;
+            idsByName.put(name, grown.length - 1);
+            names = grown;
+            return grown.length - 1;
+        }
+    }
+
+    /**
+     * Intern several names at once.
+     *
+     * @return Their ids, in the same order
+     */
+    public static int[] internAll(String... itemNames) {
+        int[] ids = new int[itemNames.length];
+        for (int i = 0; i < itemNames.length; i++) {
+            ids[i] = intern(itemNames[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * @return The id of a registered item name
+     * @throws IllegalArgumentException if the name was never interned
+     */
+    public static int idOf(String name) {
+        synchronized (LOCK) {
+            Integer id = idsByName.get(name);
+            if (id == null) {
+                throw new IllegalArgumentException("Item '" + name + "' is not in the dictionary!");
+            }
+            return id;
+        }
+    }
+
+    /**
+     * @return The item name with this id (lock-free)
+     * @throws IllegalArgumentException if no item has this id
+     */
+    public static String nameOf(int id) {
+        String[] snapshot = names;
+        if (id < 0 || id >= snapshot.length) {
+            throw new IllegalArgumentException("Unknown item id: " + id);
+        }
+        return snapshot[id];
+    }
+
+    /**
+     * @return The names of these ids, in order, as a new mutable list
+     */
+    public static List<String> namesOf(int[] ids) {
+        String[] snapshot = names;
+        List<String> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            if (id < 0 || id >= snapshot.length) {
+                throw new IllegalArgumentException("Unknown item id: " + id);
+            }
+            result.add(snapshot[id]);
+        }
+        return result;
+    }
+
+    /**
+     * @return Number of registered item names; every id is below this
+     */
+    public static int size() {
+        return names.length;
+    }
+}
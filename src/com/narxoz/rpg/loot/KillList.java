@@ -0,0 +1,73 @@
+package com.narxoz.rpg.loot;
+
+import java.util.Arrays;
+
+/**
+ * Reusable batch of kills waiting for loot: which drop table each kill
+ * rolls on and which recipient (player, party slot...) gets the result.
+ *
+ * Each kill's compiled WeightedLoot is resolved once in add(), so the
+ * pipeline rolls on a final class instead of calling through LootTable
+ * for every kill. Kills without a loot table are kept (they still use up
+ * their index and seed) but drop nothing.
+ *
+ * Usage:
+ *   KillList kills = new KillList();
+ *   for (Enemy dead : aoeVictims) {
+ *       kills.add(dead.getLootTable(), casterSlot);
+ *   }
+ */
+public final class KillList {
+
+    private WeightedLoot[] drops;
+    private int[] recipients;
+    private int size;
+
+    public KillList() {
+        this(256);
+    }
+
+    public KillList(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.drops = new WeightedLoot[capacity];
+        this.recipients = new int[capacity];
+    }
+
+    /**
+     * @param lootTable The dead enemy's loot table, may be null
+     * @param recipient Index of the recipient that gets this kill's loot
+     */
+    public KillList add(LootTable lootTable, int recipient) {
+        if (recipient < 0) {
+            throw new IllegalArgumentException("Recipient cannot be negative!");
+        }
+        if (size == drops.length) {
+            drops = Arrays.copyOf(drops, size * 2);
+            recipients = Arrays.copyOf(recipients, size * 2);
+        }
+        drops[size] = lootTable != null ? lootTable.getDrops() : null;
+        recipients[size] = recipient;
+        size++;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Forget every kill, keeping the buffers.
+     */
+    public void clear() {
+        Arrays.fill(drops, 0, size, null);
+        size = 0;
+    }
+
+    WeightedLoot dropsAt(int kill) {
+        return drops[kill];
+    }
+
+    int recipientAt(int kill) {
+        return recipients[kill];
+    }
+}
@@ -0,0 +1,136 @@
+package com.narxoz.rpg.loot;
+
+import com.narxoz.rpg.combat.SplitMix64;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Batch loot pipeline for mass kills: rolls every kill of a KillList and
+ * sums gold, XP and item counts into one Inventory per recipient.
+ *
+ * Determinism:
+ * Kill i always rolls with SplitMix64.seedFor(seed, i), so the batch
+ * totals equal the per-kill path
+ *   lootTable.roll(new SplitMix64(SplitMix64.seedFor(seed, i)), roll)
+ * summed kill by kill, whatever the batch size or number of threads.
+ *
+ * Parallelism:
+ * Batches above PARALLEL_THRESHOLD kills are split into fork/join chunks.
+ * Each chunk sums into its own per-recipient inventories (primitive arrays
+ * keyed by item id) and chunks are merged by plain addition.
+ *
+ * Usage:
+ *   LootPipeline pipeline = new LootPipeline();
+ *   List<Inventory> perPlayer = pipeline.process(kills, players.size(), waveSeed);
+ */
+public class LootPipeline {
+
+    /** Batches smaller than this are rolled on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 8192;
+
+    /** Kills rolled sequentially by one fork/join leaf. */
+    private static final int KILLS_PER_CHUNK = 2048;
+
+    private final ForkJoinPool pool;
+
+    public LootPipeline() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public LootPipeline(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null!");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Roll every kill and sum the loot per recipient.
+     *
+     * @param kills The batch; not modified
+     * @param recipients Number of recipients; every kill's recipient must be below it
+     * @param seed Batch seed; same seed, same loot
+     * @return One summary per recipient, indexed by recipient
+     */
+    public List<Inventory> process(KillList kills, int recipients, long seed) {
+        if (recipients <= 0) {
+            throw new IllegalArgumentException("Recipient count must be positive!");
+        }
+        for (int i = 0; i < kills.size(); i++) {
+            if (kills.recipientAt(i) >= recipients) {
+                throw new IllegalArgumentException("Kill " + i + " goes to recipient "
+                        + kills.recipientAt(i) + " of " + recipients + "!");
+            }
+        }
+        Inventory[] summaries = kills.size() < PARALLEL_THRESHOLD
+                ? rollRange(kills, recipients, seed, 0, kills.size())
+                : pool.invoke(new RollTask(kills, recipients, seed, 0, kills.size()));
+        List<Inventory> result = new ArrayList<>(recipients);
+        for (Inventory summary : summaries) {
+            result.add(summary);
+        }
+        return result;
+    }
+
+    /**
+     * Rolls kills [from, to) into fresh per-recipient inventories.
+     */
+    private static Inventory[] rollRange(KillList kills, int recipients, long seed, int from, int to) {
+        Inventory[] summaries = new Inventory[recipients];
+        for (int r = 0; r < recipients; r++) {
+            summaries[r] = new Inventory();
+        }
+        SplitMix64 random = new SplitMix64(0);
+        for (int kill = from; kill < to; kill++) {
+            WeightedLoot drops = kills.dropsAt(kill);
+            if (drops == null) {
+                continue;
+            }
+            random.setSeed(SplitMix64.seedFor(seed, kill));
+            drops.rollInto(random, summaries[kills.recipientAt(kill)]);
+        }
+        return summaries;
+    }
+
+    /**
+     * Splits kills [from, to) into fork/join chunks.
+     */
+    private static final class RollTask extends RecursiveTask<Inventory[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final KillList kills;
+        private final int recipients;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        RollTask(KillList kills, int recipients, long seed, int from, int to) {
+            this.kills = kills;
+            this.recipients = recipients;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Inventory[] compute() {
+            if (to - from <= KILLS_PER_CHUNK) {
+                return rollRange(kills, recipients, seed, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            RollTask left = new RollTask(kills, recipients, seed, from, mid);
+            RollTask right = new RollTask(kills, recipients, seed, mid, to);
+            left.fork();
+            Inventory[] summaries = right.compute();
+            Inventory[] leftSummaries = left.join();
+            for (int r = 0; r < recipients; r++) {
+                summaries[r].addAll(leftSummaries[r]);
+            }
+            return summaries;
+        }
+    }
+}
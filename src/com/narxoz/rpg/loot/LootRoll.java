@@ -0,0 +1,95 @@
+package com.narxoz.rpg.loot;
+
+/**
+ * Mutable result of one loot roll. Create one per thread (or per kill
+ * loop) and pass it to every roll(); it only grows its item buffer the
+ * first time a roll needs more room, so steady-state rolling allocates
+ * nothing.
+ *
+ * Items are stored as indexes into the WeightedLoot that produced them;
+ * itemIdAt() gives the ItemDictionary id for inventories and drop logs,
+ * itemAt() resolves the (shared) name for display.
+ */
+public final class LootRoll {
+
+    private WeightedLoot source;
+    private int[] drops;
+    private int count;
+    int gold;
+    int experience;
+
+    public LootRoll() {
+        this(4);
+    }
+
+    public LootRoll(int capacity) {
+        this.drops = new int[Math.max(1, capacity)];
+    }
+
+    void begin(WeightedLoot source, int expected) {
+        this.source = source;
+        this.count = 0;
+        if (drops.length < expected) {
+            drops = new int[Math.max(expected, drops.length * 2)];
+        }
+    }
+
+    void add(int itemIndex) {
+        drops[count++] = itemIndex;
+    }
+
+    /** @return Number of items dropped (duplicates count separately) */
+    public int itemCount() {
+        return count;
+    }
+
+    public String itemAt(int i) {
+        return source.itemAt(index(i));
+    }
+
+    /** @return ItemDictionary id of the i-th drop */
+    public int itemIdAt(int i) {
+        return source.itemIdAt(index(i));
+    }
+
+    public Rarity rarityAt(int i) {
+        return source.rarityAt(index(i));
+    }
+
+    /** @return Index of the i-th drop inside getSource() */
+    public int itemIndexAt(int i) {
+        return index(i);
+    }
+
+    /** @return The table this roll came from, or null before the first roll */
+    public WeightedLoot getSource() {
+        return source;
+    }
+
+    public int getGold() {
+        return gold;
+    }
+
+    public int getExperience() {
+        return experience;
+    }
+
+    private int index(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Drop " + i + " of " + count);
+        }
+        return drops[i];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LootRoll [Items: [");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(source.itemAt(drops[i]));
+        }
+        return sb.append(String.format("], Gold: %d, XP: %d]", gold, experience)).toString();
+    }
+}
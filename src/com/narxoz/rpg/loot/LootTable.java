@@ -14,9 +14,11 @@ package com.narxoz.rpg.loot;
  * This guarantees Fire enemies always drop fire loot — no mixing!
  *
  * Prototype Pattern Note:
- * Loot tables must be DEEP-COPYABLE! When you clone an enemy,
- * its loot table must be an independent copy. Otherwise, modifying
- * a cloned enemy's loot will affect the original.
+ * Loot tables are IMMUTABLE (no mutators), so a cloned enemy SHARES its
+ * original's table instead of copying it: nothing one side does can
+ * change the other's loot. To give a clone different loot, replace its
+ * reference with setLootTable(); the shared table is never modified.
+ * Implementations must stay immutable for this to hold.
  *
  * TODO: Define what all loot tables have in common.
  * Think about:
@@ -33,14 +35,43 @@ package com.narxoz.rpg.loot;
  * - LootTable clone()   <-- Critical for Prototype pattern!
  */
 import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
 
 public interface LootTable {
 
     /**
-     * @return List of item names this loot table drops
+     * @return Unmodifiable list of item names this loot table drops.
+     *         Not a copy: no allocation per call.
      */
     List<String> getItems();
 
+    /**
+     * @return Number of distinct items this loot table drops
+     */
+    int itemCount();
+
+    /**
+     * @return ItemDictionary id of the item at this index (no allocation)
+     */
+    int itemIdAt(int index);
+
+    /**
+     * @return Name of the item at this index (no allocation)
+     */
+    default String itemAt(int index) {
+        return ItemDictionary.nameOf(itemIdAt(index));
+    }
+
+    /**
+     * Visit every item id in order without allocating.
+     */
+    default void forEachItemId(IntConsumer action) {
+        for (int i = 0, n = itemCount(); i < n; i++) {
+            action.accept(itemIdAt(i));
+        }
+    }
+
     /**
      * @return Amount of gold awarded for defeating this enemy
      */
@@ -57,10 +88,35 @@ public interface LootTable {
     String getLootInfo();
 
     /**
-     * Creates a deep copy of this loot table for Prototype pattern.
-     * CRITICAL: Must be a true independent copy of the items list!
+     * @return The compiled weighted drop table behind roll()
+     */
+    WeightedLoot getDrops();
+
+    /**
+     * Roll the drops for one kill: every guaranteed item, weighted picks
+     * (O(1) each), and gold/XP within the table's ranges. Allocation-free;
+     * reuse the same LootRoll across kills.
+     *
+     * @return into, for chaining
+     */
+    default LootRoll roll(RandomGenerator random, LootRoll into) {
+        return getDrops().roll(random, into);
+    }
+
+    /**
+     * Convenience roll into a fresh LootRoll. Prefer the two-argument
+     * version on hot paths.
+     */
+    default LootRoll roll(RandomGenerator random) {
+        return roll(random, new LootRoll());
+    }
+
+    /**
+     * Copy for Prototype pattern. Enemy.clone() does not call this (it shares
+     * the immutable table); it exists for callers that want a distinct
+     * instance. Copies may share the immutable item data.
      *
-     * @return A new LootTable instance with the same properties
+     * @return A LootTable with the same properties
      */
     LootTable clone();
 
@@ -0,0 +1,24 @@
+package com.narxoz.rpg.loot;
+
+/**
+ * Rarity tier of a loot item. Each tier has a default drop weight;
+ * within one loot table, a RARE item drops 1/10 as often as a COMMON one.
+ */
+public enum Rarity {
+
+    COMMON(100.0),
+    UNCOMMON(40.0),
+    RARE(10.0),
+    EPIC(3.0),
+    LEGENDARY(0.5);
+
+    private final double defaultWeight;
+
+    Rarity(double defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    public double getDefaultWeight() {
+        return defaultWeight;
+    }
+}
@@ -1,7 +1,9 @@
 package com.narxoz.rpg.loot;
 
+import com.narxoz.rpg.render.TextEnemyRenderer;
+
+import java.util.Collections;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Shadow-themed loot table.
@@ -9,28 +11,51 @@ import java.util.ArrayList;
  */
 public class ShadowLootTable implements LootTable {
 
-    private List<String> items;
-    private int goldDrop;
-    private int experienceDrop;
+    /**
+     * Drop odds shared by every ShadowLootTable: the rune always drops, plus one
+     * weighted pick between the gem and the dark essence.
+     */
+    private static final WeightedLoot DROPS = WeightedLoot.builder()
+            .item("Shadow Gem", Rarity.RARE)
+            .item("Dark Essence", Rarity.EPIC)
+            .guaranteed("Shadow Rune", Rarity.COMMON)
+            .gold(440, 660)
+            .experience(270, 330)
+            .build();
+
+    /** Item ids (and their names) shared by every instance; never modified. */
+    private static final int[] ITEM_IDS = ItemDictionary.internAll("Shadow Gem", "Dark Essence", "Shadow Rune");
+    private static final List<String> ITEM_NAMES = Collections.unmodifiableList(ItemDictionary.namesOf(ITEM_IDS));
+
+    private final int[] itemIds;
+    private final int goldDrop;
+    private final int experienceDrop;
 
     public ShadowLootTable() {
-        this.items = new ArrayList<>();
-        this.items.add("Shadow Gem");
-        this.items.add("Dark Essence");
-        this.items.add("Shadow Rune");
+        this.itemIds = ITEM_IDS;
         this.goldDrop = 550;
         this.experienceDrop = 300;
     }
 
-    private ShadowLootTable(List<String> items, int goldDrop, int experienceDrop) {
-        this.items = new ArrayList<>(items);
+    private ShadowLootTable(int[] itemIds, int goldDrop, int experienceDrop) {
+        this.itemIds = itemIds;
         this.goldDrop = goldDrop;
         this.experienceDrop = experienceDrop;
     }
 
     @Override
     public List<String> getItems() {
-        return new ArrayList<>(items);
+        return ITEM_NAMES;
+    }
+
+    @Override
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    @Override
+    public int itemIdAt(int index) {
+        return itemIds[index];
     }
 
     @Override
@@ -43,23 +68,24 @@ public class ShadowLootTable implements LootTable {
         return experienceDrop;
     }
 
+    @Override
+    public WeightedLoot getDrops() {
+        return DROPS;
+    }
+
     @Override
     public String getLootInfo() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("=== Shadow Loot ===\n");
-        sb.append("Items: ").append(items).append("\n");
-        sb.append("Gold: ").append(goldDrop).append("\n");
-        sb.append("Experience: ").append(experienceDrop);
-        return sb.toString();
+        return TextEnemyRenderer.lootInfo(this);
     }
 
     @Override
     public LootTable clone() {
-        return new ShadowLootTable(new ArrayList<>(this.items), this.goldDrop, this.experienceDrop);
+        // The id array is immutable, so the copy can share it
+        return new ShadowLootTable(this.itemIds, this.goldDrop, this.experienceDrop);
     }
 
     @Override
     public String toString() {
-        return String.format("ShadowLootTable [Items: %s, Gold: %d, XP: %d]", items, goldDrop, experienceDrop);
+        return String.format("ShadowLootTable [Items: %s, Gold: %d, XP: %d]", getItems(), goldDrop, experienceDrop);
     }
 }
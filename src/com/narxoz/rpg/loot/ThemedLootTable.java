@@ -0,0 +1,126 @@
+package com.narxoz.rpg.loot;
+
+import com.narxoz.rpg.render.TextEnemyRenderer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Loot table for a theme defined as data rather than as a class: its items
+ * are the items of its weighted drop table. Used for themes registered at
+ * runtime with ThemeRegistry.
+ *
+ * Immutable; clones share the item ids and drop table.
+ *
+ * Usage:
+ *   WeightedLoot drops = WeightedLoot.builder()
+ *           .item("Venom Sac", Rarity.RARE)
+ *           .guaranteed("Toxic Fang", Rarity.COMMON)
+ *           .gold(200, 400)
+ *           .experience(100, 200)
+ *           .build();
+ *   LootTable poison = new ThemedLootTable("Poison", drops);
+ */
+public final class ThemedLootTable implements LootTable {
+
+    private final String theme;
+    private final WeightedLoot drops;
+    private final int[] itemIds;
+    private final List<String> itemNames;
+    private final int goldDrop;
+    private final int experienceDrop;
+
+    /**
+     * Flat gold and XP default to the middle of the drop table's ranges.
+     */
+    public ThemedLootTable(String theme, WeightedLoot drops) {
+        this(theme, drops,
+                drops == null ? 0 : (drops.getGoldMin() + drops.getGoldMax()) / 2,
+                drops == null ? 0 : (drops.getExperienceMin() + drops.getExperienceMax()) / 2);
+    }
+
+    public ThemedLootTable(String theme, WeightedLoot drops, int goldDrop, int experienceDrop) {
+        if (theme == null || theme.isEmpty()) {
+            throw new IllegalArgumentException("Theme name is required!");
+        }
+        if (drops == null) {
+            throw new IllegalArgumentException("Drop table cannot be null!");
+        }
+        if (goldDrop < 0 || experienceDrop < 0) {
+            throw new IllegalArgumentException("Gold and experience cannot be negative!");
+        }
+        int[] ids = new int[drops.itemCount()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = drops.itemIdAt(i);
+        }
+        this.theme = theme;
+        this.drops = drops;
+        this.itemIds = ids;
+        this.itemNames = Collections.unmodifiableList(ItemDictionary.namesOf(ids));
+        this.goldDrop = goldDrop;
+        this.experienceDrop = experienceDrop;
+    }
+
+    private ThemedLootTable(ThemedLootTable source) {
+        this.theme = source.theme;
+        this.drops = source.drops;
+        this.itemIds = source.itemIds;
+        this.itemNames = source.itemNames;
+        this.goldDrop = source.goldDrop;
+        this.experienceDrop = source.experienceDrop;
+    }
+
+    /**
+     * @return Display name of the theme, e.g. "Poison"
+     */
+    public String getTheme() {
+        return theme;
+    }
+
+    @Override
+    public List<String> getItems() {
+        return itemNames;
+    }
+
+    @Override
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    @Override
+    public int itemIdAt(int index) {
+        return itemIds[index];
+    }
+
+    @Override
+    public int getGoldDrop() {
+        return goldDrop;
+    }
+
+    @Override
+    public int getExperienceDrop() {
+        return experienceDrop;
+    }
+
+    @Override
+    public WeightedLoot getDrops() {
+        return drops;
+    }
+
+    @Override
+    public String getLootInfo() {
+        return TextEnemyRenderer.lootInfo(this);
+    }
+
+    @Override
+    public LootTable clone() {
+        // Every field is immutable, so the copy shares them all
+        return new ThemedLootTable(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ThemedLootTable [Theme: %s, Items: %s, Gold: %d, XP: %d]",
+                theme, itemNames, goldDrop, experienceDrop);
+    }
+}
@@ -0,0 +1,302 @@
+package com.narxoz.rpg.loot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Compiled, immutable drop table: guaranteed items, weighted items sampled
+ * through an AliasTable, and gold/XP ranges.
+ *
+ * One weighted pick costs O(1) whatever the number of items, and roll()
+ * writes into a caller-owned LootRoll, so rolling allocates nothing. A
+ * WeightedLoot is safe to share between threads and between every loot
+ * table of the same kind.
+ *
+ * Usage:
+ *   WeightedLoot drops = WeightedLoot.builder()
+ *       .item("Fire Gem", Rarity.RARE)
+ *       .item("Dragon Scale", Rarity.UNCOMMON)
+ *       .guaranteed("Flame Rune", Rarity.COMMON)
+ *       .gold(400, 600)
+ *       .experience(225, 275)
+ *       .build();
+ *
+ *   LootRoll roll = new LootRoll();        // reuse across kills
+ *   drops.roll(random, roll);
+ */
+public final class WeightedLoot {
+
+    private final String[] items;
+    private final int[] itemIds;
+    private final Rarity[] rarities;
+    private final int[] guaranteed;
+    private final int[] weighted;
+    private final AliasTable alias;
+    private final double[] chance;
+    private final int picks;
+    private final int goldMin;
+    private final int goldMax;
+    private final int experienceMin;
+    private final int experienceMax;
+
+    private WeightedLoot(Builder builder) {
+        int n = builder.names.size();
+        this.items = builder.names.toArray(new String[0]);
+        this.itemIds = ItemDictionary.internAll(items);
+        this.rarities = builder.rarities.toArray(new Rarity[0]);
+        this.chance = new double[n];
+
+        int guaranteedCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (builder.weights.get(i) < 0) {
+                guaranteedCount++;
+            }
+        }
+        this.guaranteed = new int[guaranteedCount];
+        this.weighted = new int[n - guaranteedCount];
+        double[] weights = new double[weighted.length];
+        double total = 0;
+        int g = 0;
+        int w = 0;
+        for (int i = 0; i < n; i++) {
+            double weight = builder.weights.get(i);
+            if (weight < 0) {
+                guaranteed[g++] = i;
+            } else {
+                weights[w] = weight;
+                weighted[w++] = i;
+                total += weight;
+            }
+        }
+        for (int i = 0; i < g; i++) {
+            chance[guaranteed[i]] = 1.0;
+        }
+        for (int i = 0; i < w; i++) {
+            chance[weighted[i]] = weights[i] / total;
+        }
+        this.alias = weighted.length > 0 ? new AliasTable(weights) : null;
+        this.picks = weighted.length > 0 ? builder.picks : 0;
+        this.goldMin = builder.goldMin;
+        this.goldMax = builder.goldMax;
+        this.experienceMin = builder.experienceMin;
+        this.experienceMax = builder.experienceMax;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Roll one kill's drops.
+     *
+     * @param random Randomness source (e.g. a per-thread SplitMix64)
+     * @param into Receives the drops (overwritten)
+     * @return into, for chaining
+     */
+    public LootRoll roll(RandomGenerator random, LootRoll into) {
+        into.begin(this, guaranteed.length + picks);
+        for (int index : guaranteed) {
+            into.add(index);
+        }
+        for (int i = 0; i < picks; i++) {
+            into.add(weighted[alias.sample(random)]);
+        }
+        into.gold = between(random, goldMin, goldMax);
+        into.experience = between(random, experienceMin, experienceMax);
+        return into;
+    }
+
+    /**
+     * Roll one kill straight into an inventory, skipping the LootRoll.
+     * Consumes randomness exactly like roll(), so totals are identical.
+     */
+    void rollInto(RandomGenerator random, Inventory into) {
+        for (int index : guaranteed) {
+            into.addItem(itemIds[index], 1);
+        }
+        for (int i = 0; i < picks; i++) {
+            into.addItem(itemIds[weighted[alias.sample(random)]], 1);
+        }
+        into.addGold(between(random, goldMin, goldMax));
+        into.addExperience(between(random, experienceMin, experienceMax));
+    }
+
+    private static int between(RandomGenerator random, int min, int max) {
+        return min == max ? min : min + random.nextInt(max - min + 1);
+    }
+
+    /** @return Number of distinct items (guaranteed and weighted) */
+    public int itemCount() {
+        return items.length;
+    }
+
+    public String itemAt(int index) {
+        return items[index];
+    }
+
+    /** @return ItemDictionary id of the item at this index */
+    public int itemIdAt(int index) {
+        return itemIds[index];
+    }
+
+    public Rarity rarityAt(int index) {
+        return rarities[index];
+    }
+
+    /**
+     * @return Chance that one weighted pick is this item, or 1.0 if guaranteed
+     */
+    public double chanceAt(int index) {
+        return chance[index];
+    }
+
+    public boolean isGuaranteed(int index) {
+        return contains(guaranteed, index);
+    }
+
+    /** @return Weighted picks per roll, on top of the guaranteed items */
+    public int getPicks() {
+        return picks;
+    }
+
+    public int getGoldMin() {
+        return goldMin;
+    }
+
+    public int getGoldMax() {
+        return goldMax;
+    }
+
+    public int getExperienceMin() {
+        return experienceMin;
+    }
+
+    public int getExperienceMax() {
+        return experienceMax;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("WeightedLoot [");
+        for (int i = 0; i < items.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(items[i]).append(" (").append(rarities[i]);
+            if (isGuaranteed(i)) {
+                sb.append(", guaranteed)");
+            } else {
+                sb.append(String.format(", %.1f%%)", chance[i] * 100));
+            }
+        }
+        return sb.append(String.format("; Gold: %d-%d, XP: %d-%d]",
+                goldMin, goldMax, experienceMin, experienceMax)).toString();
+    }
+
+    // ============================================
+    // BUILDER
+    // ============================================
+
+    public static final class Builder {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Rarity> rarities = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>(); // negative = guaranteed
+        private int picks = 1;
+        private int goldMin;
+        private int goldMax;
+        private int experienceMin;
+        private int experienceMax;
+
+        private Builder() {
+        }
+
+        /**
+         * Add a weighted item with its rarity's default weight.
+         */
+        public Builder item(String name, Rarity rarity) {
+            if (rarity == null) {
+                throw new IllegalArgumentException("Rarity cannot be null!");
+            }
+            return item(name, rarity, rarity.getDefaultWeight());
+        }
+
+        /**
+         * Add a weighted item with an explicit weight.
+         */
+        public Builder item(String name, Rarity rarity, double weight) {
+            if (!(weight > 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weight of '" + name + "' must be positive!");
+            }
+            return add(name, rarity, weight);
+        }
+
+        /**
+         * Add an item that drops on every roll.
+         */
+        public Builder guaranteed(String name, Rarity rarity) {
+            return add(name, rarity, -1.0);
+        }
+
+        /**
+         * @param picks Weighted items sampled per roll (default 1)
+         */
+        public Builder picks(int picks) {
+            if (picks < 0) {
+                throw new IllegalArgumentException("Picks cannot be negative!");
+            }
+            this.picks = picks;
+            return this;
+        }
+
+        public Builder gold(int min, int max) {
+            checkRange("Gold", min, max);
+            this.goldMin = min;
+            this.goldMax = max;
+            return this;
+        }
+
+        public Builder experience(int min, int max) {
+            checkRange("Experience", min, max);
+            this.experienceMin = min;
+            this.experienceMax = max;
+            return this;
+        }
+
+        public WeightedLoot build() {
+            return new WeightedLoot(this);
+        }
+
+        private Builder add(String name, Rarity rarity, double weight) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("Item name cannot be empty!");
+            }
+            if (rarity == null) {
+                throw new IllegalArgumentException("Rarity cannot be null!");
+            }
+            if (names.contains(name)) {
+                throw new IllegalArgumentException("Item '" + name + "' is already in the table!");
+            }
+            names.add(name);
+            rarities.add(rarity);
+            weights.add(weight);
+            return this;
+        }
+
+        private static void checkRange(String what, int min, int max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException(what + " range must satisfy 0 <= min <= max!");
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.narxoz.rpg.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event: a boss entered a new phase. The duration is the time spent
+ * in the phase listener.
+ */
+@Name("com.narxoz.rpg.BossPhase")
+@Label("Boss Phase Transition")
+@Category({"RPG", "Combat"})
+@Description("Boss crossed a phase threshold")
+@Threshold("0 ns")
+@StackTrace(false)
+public final class BossPhaseEvent extends jdk.jfr.Event {
+
+    @Label("Boss")
+    String boss;
+
+    @Label("From Phase")
+    int fromPhase;
+
+    @Label("To Phase")
+    int toPhase;
+
+    @Label("Health")
+    int health;
+
+    /**
+     * End the event and commit it if recording is on and it passed the threshold.
+     */
+    public void complete(String boss, int fromPhase, int toPhase, int health) {
+        end();
+        if (shouldCommit()) {
+            this.boss = boss;
+            this.fromPhase = fromPhase;
+            this.toPhase = toPhase;
+            this.health = health;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.narxoz.rpg.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event: one CombatSimulator round.
+ */
+@Name("com.narxoz.rpg.CombatTick")
+@Label("Combat Tick")
+@Category({"RPG", "Combat"})
+@Description("One round of a simulated fight")
+@Threshold("100 us")
+@StackTrace(false)
+public final class CombatTickEvent extends jdk.jfr.Event {
+
+    @Label("Round")
+    int round;
+
+    @Label("Combatants")
+    int combatants;
+
+    @Label("Heroes Alive")
+    int heroesAlive;
+
+    @Label("Enemies Alive")
+    int enemiesAlive;
+
+    /**
+     * End the event and commit it if recording is on and it passed the threshold.
+     */
+    public void complete(int round, int combatants, int heroesAlive, int enemiesAlive) {
+        end();
+        if (shouldCommit()) {
+            this.round = round;
+            this.combatants = combatants;
+            this.heroesAlive = heroesAlive;
+            this.enemiesAlive = enemiesAlive;
+            commit();
+        }
+    }
+}
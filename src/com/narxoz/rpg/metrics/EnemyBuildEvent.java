@@ -0,0 +1,48 @@
+package com.narxoz.rpg.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event: one EnemyBuilder.build() call.
+ *
+ * Usage (inside build()):
+ *   EnemyBuildEvent event = new EnemyBuildEvent();
+ *   event.begin();
+ *   ...
+ *   event.complete("BossEnemyBuilder", abilities.size(), phases.size());
+ */
+@Name("com.narxoz.rpg.EnemyBuild")
+@Label("Enemy Build")
+@Category({"RPG", "Creation"})
+@Description("EnemyBuilder.build() call")
+@Threshold("20 us")
+@StackTrace(false)
+public final class EnemyBuildEvent extends jdk.jfr.Event {
+
+    @Label("Builder Type")
+    String builderType;
+
+    @Label("Ability Count")
+    int abilityCount;
+
+    @Label("Phase Count")
+    int phaseCount;
+
+    /**
+     * End the event and commit it if recording is on and it passed the threshold.
+     */
+    public void complete(String builderType, int abilityCount, int phaseCount) {
+        end();
+        if (shouldCommit()) {
+            this.builderType = builderType;
+            this.abilityCount = abilityCount;
+            this.phaseCount = phaseCount;
+            commit();
+        }
+    }
+}
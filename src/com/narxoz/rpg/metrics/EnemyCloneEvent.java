@@ -0,0 +1,48 @@
+package com.narxoz.rpg.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event: a registry spawn, i.e. one or more clones of a template.
+ * Emitted by EnemyRegistry, which knows the template key.
+ */
+@Name("com.narxoz.rpg.EnemyClone")
+@Label("Enemy Clone")
+@Category({"RPG", "Creation"})
+@Description("Clones spawned from a registry template")
+@Threshold("10 us")
+@StackTrace(false)
+public final class EnemyCloneEvent extends jdk.jfr.Event {
+
+    @Label("Template Key")
+    String templateKey;
+
+    @Label("Enemy Type")
+    Class<?> enemyType;
+
+    @Label("Clones")
+    int clones;
+
+    @Label("Deep-Copy Size")
+    @Description("Abilities plus loot items reachable from one clone: what a full deep copy would duplicate")
+    int deepCopySize;
+
+    /**
+     * End the event and commit it if recording is on and it passed the threshold.
+     */
+    public void complete(String templateKey, Class<?> enemyType, int clones, int deepCopySize) {
+        end();
+        if (shouldCommit()) {
+            this.templateKey = templateKey;
+            this.enemyType = enemyType;
+            this.clones = clones;
+            this.deepCopySize = deepCopySize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.narxoz.rpg.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets.
+ *
+ * Values (nanoseconds) are bucketed by power of two, and every power of two
+ * is split into 16 linear sub-buckets, so any percentile is reported within
+ * about 6% of the true value. record() is one atomic increment: safe
+ * and cheap to call from many threads at once.
+ *
+ * Usage:
+ *   LatencyHistogram latency = new LatencyHistogram();
+ *   long start = System.nanoTime();
+ *   ...
+ *   latency.record(System.nanoTime() - start);
+ *   long p99 = latency.percentile(99.0);
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param nanos Latency to record (negative values count as 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        long seen = max.get();
+        while (value > seen && !max.compareAndSet(seen, value)) {
+            seen = max.get();
+        }
+    }
+
+    /**
+     * @return Number of recorded values
+     */
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * @return Largest recorded value
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile Between 0 and 100 (e.g., 99.9)
+     * @return Upper bound of the bucket holding that percentile (0 if empty)
+     */
+    public long percentile(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Forget every recorded value. Not atomic with respect to concurrent record().
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        max.set(0);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        long base = 1L << exponent;
+        long width = 1L << (exponent - SUB_BITS);
+        return base + (sub + 1) * width - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count %d, p50 %d ns, p99 %d ns, p99.9 %d ns, max %d ns",
+                count(), percentile(50), percentile(99), percentile(99.9), max());
+    }
+}
@@ -0,0 +1,79 @@
+package com.narxoz.rpg.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named OperationMetrics of one kind (templates, clones, ...), see Metrics.
+ *
+ * Look an entry up once and keep it (a static final field, a field of a
+ * registry entry); get() itself is a map lookup.
+ */
+public final class MetricGroup implements MetricGroupMXBean {
+
+    static final String OTHER = "(other)";
+
+    /** Handed out while metrics are off: records nothing, holds nothing. */
+    private static final OperationMetrics NOOP = new OperationMetrics("(disabled)", false);
+
+    private final String groupName;
+    private final ConcurrentHashMap<String, OperationMetrics> byName = new ConcurrentHashMap<>();
+
+    MetricGroup(String groupName) {
+        this.groupName = groupName;
+    }
+
+    /**
+     * @return The metrics for this name; a shared no-op instance when metrics are off
+     */
+    public OperationMetrics get(String name) {
+        if (!Metrics.ENABLED) {
+            return NOOP;
+        }
+        OperationMetrics metrics = byName.get(name);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (byName.size() >= Metrics.MAX_NAMES) {
+            return byName.computeIfAbsent(OTHER, n -> new OperationMetrics(n, true));
+        }
+        return byName.computeIfAbsent(name, n -> new OperationMetrics(n, true));
+    }
+
+    @Override
+    public String getGroupName() {
+        return groupName;
+    }
+
+    @Override
+    public long getTotalCount() {
+        long total = 0;
+        for (OperationMetrics metrics : byName.values()) {
+            total += metrics.count();
+        }
+        return total;
+    }
+
+    @Override
+    public Map<String, OperationStats> getStats() {
+        Map<String, OperationStats> stats = new TreeMap<>();
+        for (OperationMetrics metrics : byName.values()) {
+            stats.put(metrics.getName(), metrics.snapshot());
+        }
+        return stats;
+    }
+
+    @Override
+    public OperationStats stats(String name) {
+        OperationMetrics metrics = byName.get(name);
+        return metrics != null ? metrics.snapshot() : null;
+    }
+
+    @Override
+    public void reset() {
+        for (OperationMetrics metrics : byName.values()) {
+            metrics.reset();
+        }
+    }
+}
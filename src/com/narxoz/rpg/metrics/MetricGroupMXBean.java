@@ -0,0 +1,31 @@
+package com.narxoz.rpg.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of a MetricGroup.
+ */
+public interface MetricGroupMXBean {
+
+    String getGroupName();
+
+    /**
+     * @return Operations summed over every name of the group
+     */
+    long getTotalCount();
+
+    /**
+     * @return Stats of every tracked name
+     */
+    Map<String, OperationStats> getStats();
+
+    /**
+     * @return Stats of one name, or null if it is not tracked
+     */
+    OperationStats stats(String name);
+
+    /**
+     * Zero every counter and histogram of the group.
+     */
+    void reset();
+}
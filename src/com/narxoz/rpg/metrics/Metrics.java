@@ -0,0 +1,78 @@
+package com.narxoz.rpg.metrics;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Hot-path metrics for the creation pipeline, published over JMX.
+ *
+ * Off by default. Start the JVM with -Drpg.metrics=true to turn them on;
+ * ENABLED is a static final constant, so when it is false the JIT folds
+ * every Metrics.start() / OperationMetrics.stop() pair away and the
+ * instrumented methods cost the same as uninstrumented ones.
+ *
+ * Groups (one MXBean each, "com.narxoz.rpg:type=Metrics,name=<group>"):
+ *   Templates  EnemyRegistry spawns, per template key
+ *   Clones     Enemy.clone(), per enemy class
+ *   Builds     EnemyBuilder.build(), per builder class
+ *   Presets    EnemyDirector presets, per preset
+ *
+ * Each name gets a striped counter and a lock-free LatencyHistogram. A
+ * group tracks at most -Drpg.metrics.maxNames names (default 1024); later
+ * names share one "(other)" entry, so a 100k-template catalog cannot turn
+ * the metrics into the biggest thing on the heap.
+ *
+ * Instrumenting a method:
+ *   private static final OperationMetrics BUILD = Metrics.BUILDS.get("BossEnemyBuilder");
+ *   ...
+ *   long start = Metrics.start();
+ *   ... work ...
+ *   BUILD.stop(start);
+ */
+public final class Metrics {
+
+    /** True when the JVM was started with -Drpg.metrics=true. */
+    public static final boolean ENABLED = Boolean.getBoolean("rpg.metrics");
+
+    static final int MAX_NAMES = Integer.getInteger("rpg.metrics.maxNames", 1024);
+
+    public static final MetricGroup TEMPLATES = new MetricGroup("Templates");
+    public static final MetricGroup CLONES = new MetricGroup("Clones");
+    public static final MetricGroup BUILDS = new MetricGroup("Builds");
+    public static final MetricGroup PRESETS = new MetricGroup("Presets");
+
+    static {
+        if (ENABLED) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (MetricGroup group : new MetricGroup[] {TEMPLATES, CLONES, BUILDS, PRESETS}) {
+                try {
+                    ObjectName name = objectName(group.getGroupName());
+                    if (!server.isRegistered(name)) {
+                        server.registerMBean(group, name);
+                    }
+                } catch (JMException e) {
+                    // Metrics stay readable in-process; JMX is best effort
+                }
+            }
+        }
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * @return A start timestamp for OperationMetrics.stop(), or 0 when metrics are off
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * @return The JMX name a group is published under
+     */
+    public static ObjectName objectName(String group) throws JMException {
+        return new ObjectName("com.narxoz.rpg:type=Metrics,name=" + group);
+    }
+}
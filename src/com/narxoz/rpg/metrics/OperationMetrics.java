@@ -0,0 +1,80 @@
+package com.narxoz.rpg.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count and latency of one instrumented operation.
+ *
+ * The counters are LongAdders (striped per contending thread), so
+ * recording from many worker threads does not serialize on one cache line.
+ */
+public final class OperationMetrics {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LatencyHistogram latency;
+
+    OperationMetrics(String name, boolean withHistogram) {
+        this.name = name;
+        this.latency = withHistogram ? new LatencyHistogram() : null;
+    }
+
+    /**
+     * Record one operation that began at start (from Metrics.start()).
+     * A no-op when metrics are off.
+     */
+    public void stop(long start) {
+        if (Metrics.ENABLED && latency != null) {
+            long elapsed = System.nanoTime() - start;
+            count.increment();
+            totalNanos.add(elapsed);
+            latency.record(elapsed);
+        }
+    }
+
+    /**
+     * Record a batch of operations that began at start. The histogram gets
+     * one value: the batch's average time per operation.
+     */
+    public void stop(long start, int operations) {
+        if (Metrics.ENABLED && latency != null && operations > 0) {
+            long elapsed = System.nanoTime() - start;
+            count.add(operations);
+            totalNanos.add(elapsed);
+            latency.record(elapsed / operations);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return Latency histogram, or null for the shared no-op instance
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    public OperationStats snapshot() {
+        if (latency == null) {
+            return new OperationStats(name, 0, 0, 0, 0, 0, 0);
+        }
+        long n = count.sum();
+        return new OperationStats(name, n, n == 0 ? 0 : totalNanos.sum() / n,
+                latency.percentile(50), latency.percentile(99), latency.percentile(99.9), latency.max());
+    }
+
+    void reset() {
+        count.reset();
+        totalNanos.reset();
+        if (latency != null) {
+            latency.reset();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.narxoz.rpg.metrics;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Point-in-time numbers of one OperationMetrics; what JMX clients see.
+ * Latencies are in nanoseconds.
+ */
+public final class OperationStats {
+
+    private final String name;
+    private final long count;
+    private final long meanNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    @ConstructorParameters({"name", "count", "meanNanos", "p50Nanos", "p99Nanos", "p999Nanos", "maxNanos"})
+    public OperationStats(String name, long count, long meanNanos, long p50Nanos, long p99Nanos,
+                          long p999Nanos, long maxNanos) {
+        this.name = name;
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: count %d, mean %d ns, p50 %d ns, p99 %d ns, p99.9 %d ns, max %d ns",
+                name, count, meanNanos, p50Nanos, p99Nanos, p999Nanos, maxNanos);
+    }
+}
@@ -0,0 +1,37 @@
+package com.narxoz.rpg.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event: a registry lookup that found no live template. The duration
+ * covers the fallback: decoding the key from a template pack, or failing.
+ */
+@Name("com.narxoz.rpg.RegistryMiss")
+@Label("Registry Miss")
+@Category({"RPG", "Creation"})
+@Description("Template key not loaded in the registry")
+@Threshold("0 ns")
+public final class RegistryMissEvent extends jdk.jfr.Event {
+
+    @Label("Template Key")
+    String templateKey;
+
+    @Label("Loaded From Pack")
+    boolean loadedFromPack;
+
+    /**
+     * End the event and commit it if recording is on and it passed the threshold.
+     */
+    public void complete(String templateKey, boolean loadedFromPack) {
+        end();
+        if (shouldCommit()) {
+            this.templateKey = templateKey;
+            this.loadedFromPack = loadedFromPack;
+            commit();
+        }
+    }
+}
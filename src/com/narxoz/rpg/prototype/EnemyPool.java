@@ -0,0 +1,167 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Object pool for one registry template, for arenas with constant
+ * spawn/despawn churn.
+ *
+ * acquire() hands out an enemy reset in place from the CURRENT version of
+ * the template (Enemy.resetFrom), so at steady state a respawn allocates
+ * nothing. release() takes it back on death. When the pool is empty, or a
+ * pooled instance cannot take the template (e.g., the template was
+ * hot-swapped to another enemy type), it falls back to a normal clone.
+ *
+ * Usage:
+ *   EnemyPool goblins = registry.createPool("goblin", 500);
+ *   Enemy goblin = goblins.acquire();
+ *   ...
+ *   goblins.release(goblin);   // on death
+ *
+ * Debug mode (-Drpg.pool.debug=true, or the constructor flag) tracks every
+ * outstanding enemy: releasing a foreign or already-released enemy throws,
+ * and assertNoLeaks() reports enemies that were never given back.
+ */
+public class EnemyPool {
+
+    private static final boolean DEBUG_DEFAULT = Boolean.getBoolean("rpg.pool.debug");
+
+    private final EnemyRegistry registry;
+    private final String key;
+    private final int maxSize;
+    private final boolean debug;
+
+    private final ArrayDeque<Enemy> free;
+    private final Set<Enemy> outstanding;
+
+    private long hits;
+    private long misses;
+    private long discarded;
+    private int inUse;
+
+    public EnemyPool(EnemyRegistry registry, String key, int maxSize) {
+        this(registry, key, maxSize, DEBUG_DEFAULT);
+    }
+
+    public EnemyPool(EnemyRegistry registry, String key, int maxSize, boolean debug) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null!");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive!");
+        }
+        registry.resolve(key); // fail fast on unknown templates
+        this.registry = registry;
+        this.key = key;
+        this.maxSize = maxSize;
+        this.debug = debug;
+        this.free = new ArrayDeque<>(maxSize);
+        this.outstanding = debug ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+    }
+
+    /**
+     * Fill the pool with fresh clones so the first acquires are hits too.
+     */
+    public synchronized void prefill(int count) {
+        Enemy template = registry.resolve(key).template;
+        int target = Math.min(count, maxSize);
+        while (free.size() < target) {
+            free.push(template.clone());
+        }
+    }
+
+    /**
+     * @return An enemy in the template's initial state (reused if possible)
+     */
+    public synchronized Enemy acquire() {
+        Enemy template = registry.resolve(key).template;
+        Enemy enemy = free.poll();
+        if (enemy != null && enemy.resetFrom(template)) {
+            hits++;
+        } else {
+            misses++;
+            enemy = template.clone();
+        }
+        inUse++;
+        if (debug) {
+            outstanding.add(enemy);
+        }
+        return enemy;
+    }
+
+    /**
+     * Return an enemy to the pool. The caller must not use it afterwards.
+     * If the pool is already full the enemy is dropped for the GC.
+     *
+     * @throws IllegalStateException in debug mode, if the enemy was not
+     *         acquired from this pool or was already released
+     */
+    public synchronized void release(Enemy enemy) {
+        if (enemy == null) {
+            throw new IllegalArgumentException("Cannot release null!");
+        }
+        if (debug && !outstanding.remove(enemy)) {
+            throw new IllegalStateException("Enemy '" + enemy.getName()
+                    + "' was not acquired from pool '" + key + "' or was released twice!");
+        }
+        inUse--;
+        if (free.size() < maxSize) {
+            free.push(enemy);
+        } else {
+            discarded++;
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if any acquired enemy was never released
+     */
+    public synchronized void assertNoLeaks() {
+        if (inUse != 0) {
+            throw new IllegalStateException("Pool '" + key + "' leaked " + inUse + " enemies!");
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** @return Enemies waiting in the pool */
+    public synchronized int idleCount() {
+        return free.size();
+    }
+
+    /** @return Enemies acquired and not yet released */
+    public synchronized int inUseCount() {
+        return inUse;
+    }
+
+    /** @return Acquires served by recycling a pooled enemy */
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    /** @return Acquires that had to clone the template */
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    /** @return Releases dropped because the pool was full */
+    public synchronized long discardCount() {
+        return discarded;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("EnemyPool [%s: idle %d/%d, in use %d, hits %d, misses %d, discarded %d]",
+                key, free.size(), maxSize, inUse, hits, misses, discarded);
+    }
+}
@@ -1,10 +1,20 @@
 package com.narxoz.rpg.prototype;
 
+import com.narxoz.rpg.codec.TemplatePack;
 import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.metrics.EnemyCloneEvent;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.RegistryMissEvent;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Registry for storing and cloning enemy templates.
@@ -21,25 +31,76 @@ import java.util.Set;
  *   // Create an elite goblin from template
  *   Enemy eliteGoblin = registry.createFromTemplate("goblin");
  *   eliteGoblin.multiplyStats(2.0);  // Clone is modified, template is safe!
+ *
+ *   // Difficulty tiers: derived once per template version, then cloned
+ *   registry.registerTier("elite", 2.0);
+ *   Enemy elite = registry.createTier("goblin", "elite");
+ *
+ *   // Wave spawn: 5000 goblins in one pass
+ *   List<Enemy> wave = registry.createFromTemplate("goblin", 5000);
+ *
+ * Thread safety:
+ *   The registry is shared by simulation worker threads. Spawning only
+ *   reads a ConcurrentHashMap (no locks, no CAS). Registering a template
+ *   publishes a new immutable TemplateEntry with the next version, so a
+ *   replacement swaps in atomically and in-flight spawns finish against
+ *   the version they already read. Writers are serialized and bump a
+ *   sequence counter, which lets readers copy a consistent snapshot.
+ *
+ * Template packs:
+ *   attachPack() makes every key of a prebuilt, memory-mapped TemplatePack
+ *   available without building anything. A pack entry is decoded and
+ *   registered (as version 1) the first time its key is resolved; keys
+ *   registered explicitly always win over packs.
+ *
+ * Metrics:
+ *   With -Drpg.metrics=true every spawn is counted and timed per template
+ *   key (Metrics.TEMPLATES); a bulk spawn counts each clone and records
+ *   its average time per clone. Spawns and lookups of keys that are not
+ *   loaded also emit JFR events (EnemyCloneEvent, RegistryMissEvent).
  */
 public class EnemyRegistry {
 
-    private Map<String, Enemy> templates = new HashMap<>();
+    /** Spawn counts at or above this are split across cores with fork/join. */
+    static final int PARALLEL_THRESHOLD = 8192;
+
+    /** Leaf size of a parallel spawn task. */
+    private static final int SPAWN_CHUNK = 2048;
+
+    private final ConcurrentHashMap<String, TemplateEntry> templates = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Double> tiers = new ConcurrentHashMap<>();
+    private final List<TemplatePack> packs = new CopyOnWriteArrayList<>();
+
+    // Writers hold this lock; the sequence is odd while a write is in progress.
+    private final Object writeLock = new Object();
+    private volatile long writeSequence;
 
     /**
-     * Register a template enemy.
+     * Register a template enemy, or atomically replace an existing one.
      *
      * @param key Unique identifier (e.g., "goblin", "fire_dragon")
      * @param template The template enemy to store
+     * @return Version of the stored template (1 for a new key, +1 per replacement)
      */
-    public void registerTemplate(String key, Enemy template) {
+    public long registerTemplate(String key, Enemy template) {
         if (key == null || key.isEmpty()) {
             throw new IllegalArgumentException("Template key cannot be null or empty!");
         }
         if (template == null) {
             throw new IllegalArgumentException("Template cannot be null!");
         }
-        templates.put(key, template);
+        synchronized (writeLock) {
+            writeSequence++;
+            try {
+                TemplateEntry previous = templates.get(key);
+                // A not-yet-loaded pack entry counts as version 1
+                long version = previous != null ? previous.version + 1 : (packFor(key) != null ? 2 : 1);
+                templates.put(key, new TemplateEntry(key, template, version));
+                return version;
+            } finally {
+                writeSequence++;
+            }
+        }
     }
 
     /**
@@ -52,33 +113,313 @@ public class EnemyRegistry {
      * @throws IllegalArgumentException if template not found
      */
     public Enemy createFromTemplate(String key) {
-        if (!templates.containsKey(key)) {
-            throw new IllegalArgumentException("Template '" + key + "' not found!");
+        long start = Metrics.start();
+        EnemyCloneEvent event = new EnemyCloneEvent();
+        event.begin();
+        TemplateEntry entry = resolve(key);
+        Enemy clone = entry.template.clone();  // CLONE! Not the original!
+        entry.spawnMetrics.stop(start);
+        event.complete(key, entry.template.getClass(), 1, entry.deepCopySize);
+        return clone;
+    }
+
+    /**
+     * Create a recycling pool for one template (see EnemyPool).
+     *
+     * @param key The template key
+     * @param maxSize Maximum number of idle enemies kept for reuse
+     * @throws IllegalArgumentException if template not found
+     */
+    public EnemyPool createPool(String key, int maxSize) {
+        return new EnemyPool(this, key, maxSize);
+    }
+
+    /**
+     * Name a difficulty tier (e.g., "elite" = 2.0x stats).
+     *
+     * @param tierName Tier name used by createTier
+     * @param multiplier Stat multiplier of the tier
+     */
+    public void registerTier(String tierName, double multiplier) {
+        if (tierName == null || tierName.isEmpty()) {
+            throw new IllegalArgumentException("Tier name cannot be null or empty!");
+        }
+        if (!(multiplier > 0) || Double.isInfinite(multiplier)) {
+            throw new IllegalArgumentException("Tier multiplier must be positive!");
+        }
+        tiers.put(tierName, multiplier);
+    }
+
+    /**
+     * Create a clone of a stat-scaled variant of a template.
+     *
+     * The variant (template clone + multiplyStats) is derived once per
+     * template version and cached, so each call is a single clone.
+     * Replacing the template discards its cached variants.
+     *
+     * @param key The template key
+     * @param multiplier Stat multiplier (e.g., 2.0 for Elite)
+     * @return A cloned copy of the scaled variant
+     * @throws IllegalArgumentException if template not found
+     */
+    public Enemy createVariant(String key, double multiplier) {
+        if (!(multiplier > 0) || Double.isInfinite(multiplier)) {
+            throw new IllegalArgumentException("Variant multiplier must be positive!");
+        }
+        long start = Metrics.start();
+        EnemyCloneEvent event = new EnemyCloneEvent();
+        event.begin();
+        TemplateEntry entry = resolve(key);
+        Enemy clone = entry.variant(multiplier).clone();
+        entry.spawnMetrics.stop(start);
+        event.complete(key, entry.template.getClass(), 1, entry.deepCopySize);
+        return clone;
+    }
+
+    /**
+     * Create a clone of a named tier of a template (see registerTier).
+     *
+     * @throws IllegalArgumentException if template or tier not found
+     */
+    public Enemy createTier(String key, String tierName) {
+        Double multiplier = tierName != null ? tiers.get(tierName) : null;
+        if (multiplier == null) {
+            throw new IllegalArgumentException("Tier '" + tierName + "' not found!");
+        }
+        return createVariant(key, multiplier);
+    }
+
+    /**
+     * @return Current version of a template
+     * @throws IllegalArgumentException if template not found
+     */
+    public long templateVersion(String key) {
+        return resolve(key).version;
+    }
+
+    /**
+     * Read the current entry for a key (one lock-free map lookup), loading
+     * it from an attached pack on first use.
+     */
+    TemplateEntry resolve(String key) {
+        TemplateEntry entry = key != null ? templates.get(key) : null;
+        if (entry == null) {
+            RegistryMissEvent miss = new RegistryMissEvent();
+            miss.begin();
+            entry = loadFromPack(key);
+            miss.complete(key, entry != null);
+            if (entry == null) {
+                throw new IllegalArgumentException("Template '" + key + "' not found!");
+            }
+        }
+        return entry;
+    }
+
+    // ============================================
+    // TEMPLATE PACKS
+    // ============================================
+
+    /**
+     * Make every template of a pack available. Nothing is decoded now;
+     * each key is decoded the first time it is requested. When several
+     * packs hold a key, the first attached wins.
+     */
+    public void attachPack(TemplatePack pack) {
+        if (pack == null) {
+            throw new IllegalArgumentException("Pack cannot be null!");
+        }
+        synchronized (writeLock) {
+            writeSequence++;
+            try {
+                packs.add(pack);
+            } finally {
+                writeSequence++;
+            }
+        }
+    }
+
+    /**
+     * @return true if the key has a live template, false if it is unknown
+     *         or still only in a pack (not decoded yet)
+     */
+    public boolean isLoaded(String key) {
+        return key != null && templates.containsKey(key);
+    }
+
+    private TemplatePack packFor(String key) {
+        for (TemplatePack pack : packs) {
+            if (pack.contains(key)) {
+                return pack;
+            }
+        }
+        return null;
+    }
+
+    private TemplateEntry loadFromPack(String key) {
+        TemplatePack pack = key != null ? packFor(key) : null;
+        if (pack == null) {
+            return null;
+        }
+        // Decode outside the lock; if another thread won the race, use its entry
+        Enemy template = pack.decode(key);
+        synchronized (writeLock) {
+            TemplateEntry existing = templates.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            writeSequence++;
+            try {
+                TemplateEntry entry = new TemplateEntry(key, template, 1);
+                templates.put(key, entry);
+                return entry;
+            } finally {
+                writeSequence++;
+            }
+        }
+    }
+
+    /**
+     * Create many clones of a registered template in one pass.
+     *
+     * The template is resolved once and the result is pre-sized. Large
+     * counts are cloned in parallel (see PARALLEL_THRESHOLD).
+     *
+     * @param key The template key
+     * @param count Number of clones to create
+     * @return Fixed-size list of independent clones
+     * @throws IllegalArgumentException if template not found or count is negative
+     */
+    public List<Enemy> createFromTemplate(String key, int count) {
+        Enemy[] buffer = new Enemy[count < 0 ? 0 : count];
+        spawnInto(key, buffer, 0, count);
+        return Arrays.asList(buffer);
+    }
+
+    /**
+     * Fill part of a caller-owned buffer with clones of a registered template.
+     * Lets wave spawners reuse one array across waves.
+     *
+     * @param key The template key
+     * @param buffer Destination array
+     * @param offset First index to write
+     * @param count Number of clones to write
+     * @throws IllegalArgumentException if template not found or the range is out of bounds
+     */
+    public void spawnInto(String key, Enemy[] buffer, int offset, int count) {
+        if (count < 0 || offset < 0 || offset > buffer.length - count) {
+            throw new IllegalArgumentException("Spawn range [" + offset + ", +" + count
+                    + ") does not fit a buffer of " + buffer.length + "!");
+        }
+        long start = Metrics.start();
+        EnemyCloneEvent event = new EnemyCloneEvent();
+        event.begin();
+        TemplateEntry entry = resolve(key);
+        Enemy original = entry.template;
+        if (count >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new SpawnTask(original, buffer, offset, offset + count));
+        } else {
+            cloneRange(original, buffer, offset, offset + count);
+        }
+        entry.spawnMetrics.stop(start, count);
+        event.complete(key, original.getClass(), count, entry.deepCopySize);
+    }
+
+    private static void cloneRange(Enemy original, Enemy[] buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            buffer[i] = original.clone();
+        }
+    }
+
+    /**
+     * Fork/join task cloning one template into a range of the buffer.
+     */
+    private static final class SpawnTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Enemy original;
+        private final Enemy[] buffer;
+        private final int from;
+        private final int to;
+
+        SpawnTask(Enemy original, Enemy[] buffer, int from, int to) {
+            this.original = original;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPAWN_CHUNK) {
+                cloneRange(original, buffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SpawnTask(original, buffer, from, mid),
+                      new SpawnTask(original, buffer, mid, to));
         }
-        Enemy original = templates.get(key);
-        return original.clone();  // CLONE! Not the original!
     }
 
     /**
      * List all registered template keys.
      *
-     * @return Set of template keys
+     * @return Immutable snapshot of the template keys
      */
     public Set<String> listTemplates() {
-        return templates.keySet();
+        return templateVersions().keySet();
     }
 
     /**
-     * Check if a template exists.
+     * Consistent point-in-time view of every template key and its version.
+     * No registration is half-visible in the result.
+     *
+     * @return Immutable map of template key to version
+     */
+    public Map<String, Long> templateVersions() {
+        for (int attempt = 0; attempt < 8; attempt++) {
+            long before = writeSequence;
+            if ((before & 1) == 0) {
+                Map<String, Long> copy = copyVersions();
+                if (writeSequence == before) {
+                    return copy;
+                }
+            }
+            Thread.onSpinWait();
+        }
+        // Writers keep racing us: stop them while copying
+        synchronized (writeLock) {
+            return copyVersions();
+        }
+    }
+
+    private Map<String, Long> copyVersions() {
+        Map<String, Long> copy = new HashMap<>();
+        for (TemplatePack pack : packs) {
+            for (String key : pack.keys()) {
+                copy.putIfAbsent(key, 1L);
+            }
+        }
+        for (TemplateEntry entry : templates.values()) {
+            copy.put(entry.key, entry.version);
+        }
+        return Map.copyOf(copy);
+    }
+
+    /**
+     * Check if a template exists (registered or in an attached pack).
      */
     public boolean hasTemplate(String key) {
-        return templates.containsKey(key);
+        return key != null && (templates.containsKey(key) || packFor(key) != null);
     }
 
     /**
-     * Get the number of registered templates.
+     * Get the number of available templates, including unloaded pack entries.
      */
     public int templateCount() {
-        return templates.size();
+        if (packs.isEmpty()) {
+            return templates.size();
+        }
+        return templateVersions().size();
     }
 }
@@ -0,0 +1,79 @@
+package com.narxoz.rpg.prototype;
+
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.metrics.Metrics;
+import com.narxoz.rpg.metrics.OperationMetrics;
+
+import java.util.Arrays;
+
+/**
+ * One immutable version of a registered template.
+ *
+ * The registry never changes an entry in place: replacing a template
+ * publishes a NEW entry with the next version number. A spawn that already
+ * read the old entry simply finishes cloning the old template.
+ *
+ * Derived tier variants are cached on the entry itself, so replacing the
+ * template drops them together with the old version. A template has only a
+ * handful of tiers, so the cache is a copy-on-write array scanned by the
+ * multiplier's raw bits: a variant spawn boxes nothing and takes no lock.
+ */
+final class TemplateEntry {
+
+    final String key;
+    final Enemy template;
+    final long version;
+    final OperationMetrics spawnMetrics; // shared by every version of the key
+    final int deepCopySize;              // abilities + loot items, for EnemyCloneEvent
+
+    // variantBits[i] = Double.doubleToLongBits(multiplier) of variants[i], which is
+    // template.clone() with multiplyStats(multiplier) applied. Replaced together, under 'this'.
+    private volatile long[] variantBits = new long[0];
+    private volatile Enemy[] variants = new Enemy[0];
+
+    TemplateEntry(String key, Enemy template, long version) {
+        this.key = key;
+        this.template = template;
+        this.version = version;
+        this.spawnMetrics = Metrics.TEMPLATES.get(key);
+        this.deepCopySize = template.abilityCount()
+                + (template.getLootTable() != null ? template.getLootTable().itemCount() : 0);
+    }
+
+    /**
+     * @return The cached variant for this multiplier, derived on first use
+     */
+    Enemy variant(double multiplier) {
+        long bits = Double.doubleToLongBits(multiplier);
+        Enemy[] cached = variants; // read before variantBits: it is published last
+        long[] keys = variantBits;
+        for (int i = 0; i < cached.length; i++) {
+            if (keys[i] == bits) {
+                return cached[i];
+            }
+        }
+        return deriveVariant(bits, multiplier);
+    }
+
+    private synchronized Enemy deriveVariant(long bits, double multiplier) {
+        long[] keys = variantBits;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == bits) {
+                return variants[i];
+            }
+        }
+        Enemy variant = template.clone();
+        variant.multiplyStats(multiplier);
+        long[] grownKeys = Arrays.copyOf(keys, keys.length + 1);
+        grownKeys[keys.length] = bits;
+        Enemy[] grown = Arrays.copyOf(variants, keys.length + 1);
+        grown[keys.length] = variant;
+        this.variantBits = grownKeys;
+        this.variants = grown;
+        return variant;
+    }
+
+    int variantCount() {
+        return variants.length;
+    }
+}
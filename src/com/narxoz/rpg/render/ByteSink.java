@@ -0,0 +1,180 @@
+package com.narxoz.rpg.render;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appendable that encodes characters as UTF-8 straight into a ByteBuffer.
+ *
+ * With a channel, the buffer is drained into it whenever it fills up, so
+ * a roster of any size streams through one fixed buffer. Without one,
+ * the sink writes into the caller's buffer and throws
+ * BufferOverflowException when it is full.
+ *
+ * Usage:
+ *   try (ByteSink sink = ByteSink.toFile(Path.of("roster.txt"))) {
+ *       renderer.renderAll(enemies, sink);
+ *   }
+ *
+ *   ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+ *   ByteSink sink = new ByteSink(buffer);   // reuse: buffer.clear() between uses
+ */
+public class ByteSink implements Appendable, Flushable, Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final ByteBuffer buffer;
+    private final WritableByteChannel channel;
+    private char pendingHighSurrogate;
+
+    /**
+     * Sink over a caller-owned buffer, no channel.
+     */
+    public ByteSink(ByteBuffer buffer) {
+        this(buffer, null);
+    }
+
+    /**
+     * Sink draining into a channel (may be null).
+     */
+    public ByteSink(ByteBuffer buffer, WritableByteChannel channel) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null!");
+        }
+        if (channel != null && buffer.capacity() < 4) {
+            throw new IllegalArgumentException("Buffer must hold at least one UTF-8 character!");
+        }
+        this.buffer = buffer;
+        this.channel = channel;
+    }
+
+    /**
+     * Sink writing a new (or truncated) file through a 64 KB direct buffer.
+     */
+    public static ByteSink toFile(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new ByteSink(ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE), channel);
+    }
+
+    @Override
+    public ByteSink append(CharSequence csq) throws IOException {
+        CharSequence text = csq != null ? csq : "null";
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public ByteSink append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence text = csq != null ? csq : "null"; // Appendable contract
+        for (int i = start; i < end; i++) {
+            append(text.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public ByteSink append(char c) throws IOException {
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                writeCodePoint(Character.toCodePoint(high, c));
+                return this;
+            }
+            writeCodePoint('?'); // lone high surrogate
+        }
+        if (c < 0x80) {
+            ensure(1);
+            buffer.put((byte) c);
+        } else if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            writeCodePoint('?'); // lone low surrogate
+        } else {
+            writeCodePoint(c);
+        }
+        return this;
+    }
+
+    private void writeCodePoint(int cp) throws IOException {
+        if (cp < 0x80) {
+            ensure(1);
+            buffer.put((byte) cp);
+        } else if (cp < 0x800) {
+            ensure(2);
+            buffer.put((byte) (0xC0 | (cp >> 6)));
+            buffer.put((byte) (0x80 | (cp & 0x3F)));
+        } else if (cp < 0x10000) {
+            ensure(3);
+            buffer.put((byte) (0xE0 | (cp >> 12)));
+            buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (cp & 0x3F)));
+        } else {
+            ensure(4);
+            buffer.put((byte) (0xF0 | (cp >> 18)));
+            buffer.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+            buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (cp & 0x3F)));
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        if (channel == null) {
+            throw new BufferOverflowException();
+        }
+        drain();
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * @return The underlying buffer (for channel-less sinks: flip() it to read)
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Write buffered bytes to the channel. No-op without a channel.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (channel != null) {
+            drain();
+        }
+    }
+
+    /**
+     * Flush and close the channel, if any.
+     */
+    @Override
+    public void close() throws IOException {
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            writeCodePoint('?');
+        }
+        if (channel != null) {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.narxoz.rpg.render;
+
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.io.IOException;
+
+/**
+ * Writes enemies into any Appendable: a StringBuilder, a Writer, a
+ * PrintStream, or a ByteSink over a reusable ByteBuffer / FileChannel.
+ *
+ * Renderers append piece by piece instead of building one string per
+ * enemy, and keep a small scratch buffer for numbers, so rendering a large
+ * roster streams straight into the target. A renderer instance is NOT
+ * thread-safe; use one per thread.
+ *
+ * Usage:
+ *   EnemyRenderer json = new JsonEnemyRenderer();
+ *   try (ByteSink sink = ByteSink.toFile(Path.of("roster.jsonl"))) {
+ *       json.renderAll(roster, sink);
+ *   }
+ */
+public interface EnemyRenderer {
+
+    /**
+     * Append one enemy.
+     */
+    void render(Enemy enemy, Appendable out) throws IOException;
+
+    /**
+     * Append every enemy, in order, in one streaming pass.
+     */
+    default void renderAll(Iterable<? extends Enemy> enemies, Appendable out) throws IOException {
+        for (Enemy enemy : enemies) {
+            render(enemy, out);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.narxoz.rpg.render;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.PhaseTable;
+import com.narxoz.rpg.loot.LootTable;
+
+import java.io.IOException;
+
+/**
+ * JSON enemy renderer. Each enemy becomes one JSON object on its own line
+ * (JSON Lines), so huge rosters can be streamed and read back line by line.
+ *
+ * Example (one line, wrapped here):
+ *   {"type":"Goblin","name":"Forest Goblin","health":100,"damage":15,
+ *    "defense":5,"speed":35,"abilities":[{"name":"Flame Breath","damage":50,
+ *    "description":"..."}],"loot":{"theme":"Fire","items":["Fire Gem",...],
+ *    "gold":500,"experience":250}}
+ *
+ * Dragon bosses also get "element", "phases", "ai", "canFly",
+ * "breathAttack" and "wingspan". Enemies without loot get "loot":null.
+ */
+public class JsonEnemyRenderer implements EnemyRenderer {
+
+    private final StringBuilder scratch = new StringBuilder(16);
+
+    @Override
+    public void render(Enemy enemy, Appendable out) throws IOException {
+        out.append("{\"type\":");
+        string(enemy instanceof DragonBoss ? "DragonBoss" : enemy.getClass().getSimpleName(), out);
+        out.append(",\"name\":");
+        string(enemy.getName(), out);
+        field("health", enemy.getHealth(), out);
+        field("damage", enemy.getDamage(), out);
+        field("defense", enemy.getDefense(), out);
+        field("speed", enemy.getSpeed(), out);
+
+        if (enemy instanceof DragonBoss) {
+            DragonBoss boss = (DragonBoss) enemy;
+            out.append(",\"element\":");
+            string(boss.getElement().name(), out);
+        }
+
+        out.append(",\"abilities\":[");
+        for (int i = 0, n = enemy.abilityCount(); i < n; i++) {
+            Ability ability = enemy.abilityAt(i);
+            out.append(i > 0 ? ",{\"name\":" : "{\"name\":");
+            string(ability.getName(), out);
+            field("damage", ability.getDamage(), out);
+            out.append(",\"description\":");
+            string(ability.getDescription(), out);
+            out.append('}');
+        }
+        out.append(']');
+
+        if (enemy instanceof DragonBoss) {
+            renderBossFields((DragonBoss) enemy, out);
+        }
+
+        out.append(",\"loot\":");
+        LootTable loot = enemy.getLootTable();
+        if (loot == null) {
+            out.append("null");
+        } else {
+            out.append("{\"theme\":");
+            string(TextEnemyRenderer.themeOf(loot), out);
+            out.append(",\"items\":[");
+            for (int i = 0; i < loot.itemCount(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                string(loot.itemAt(i), out);
+            }
+            out.append(']');
+            field("gold", loot.getGoldDrop(), out);
+            field("experience", loot.getExperienceDrop(), out);
+            out.append('}');
+        }
+        out.append("}\n");
+    }
+
+    private void renderBossFields(DragonBoss boss, Appendable out) throws IOException {
+        PhaseTable phases = boss.getPhaseTable();
+        out.append(",\"phases\":[");
+        for (int i = 0; i < phases.size(); i++) {
+            out.append(i > 0 ? ",{\"phase\":" : "{\"phase\":");
+            number(phases.phaseNumberAt(i), out);
+            field("threshold", phases.thresholdAt(i), out);
+            out.append('}');
+        }
+        out.append("],\"ai\":");
+        string(boss.getAIBehavior().name(), out);
+        out.append(",\"canFly\":").append(boss.canFly() ? "true" : "false");
+        out.append(",\"breathAttack\":").append(boss.hasBreathAttack() ? "true" : "false");
+        field("wingspan", boss.getWingspan(), out);
+    }
+
+    private void field(String name, int value, Appendable out) throws IOException {
+        out.append(",\"").append(name).append("\":");
+        number(value, out);
+    }
+
+    private void number(int value, Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+            return;
+        }
+        scratch.setLength(0);
+        scratch.append(value);
+        out.append(scratch);
+    }
+
+    /**
+     * Append a quoted, escaped JSON string (or null).
+     */
+    private static void string(String value, Appendable out) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                out.append(value, start, i);
+                switch (c) {
+                    case '"':
+                        out.append("\\\"");
+                        break;
+                    case '\\':
+                        out.append("\\\\");
+                        break;
+                    case '\n':
+                        out.append("\\n");
+                        break;
+                    case '\r':
+                        out.append("\\r");
+                        break;
+                    case '\t':
+                        out.append("\\t");
+                        break;
+                    default:
+                        out.append("\\u00");
+                        out.append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                        break;
+                }
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length());
+        out.append('"');
+    }
+}
@@ -0,0 +1,234 @@
+package com.narxoz.rpg.render;
+
+import com.narxoz.rpg.combat.Ability;
+import com.narxoz.rpg.enemy.DragonBoss;
+import com.narxoz.rpg.enemy.Enemy;
+import com.narxoz.rpg.enemy.Goblin;
+import com.narxoz.rpg.enemy.PhaseTable;
+import com.narxoz.rpg.enemy.Skeleton;
+import com.narxoz.rpg.loot.LootTable;
+import com.narxoz.rpg.loot.ThemedLootTable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Human-readable enemy renderer: the displayInfo() format.
+ *
+ * Example:
+ *   === Forest Goblin (Goblin) ===
+ *   Health: 100 | Damage: 15 | Defense: 5 | Speed: 35
+ *   Abilities (1):
+ *     - Flame Breath: ...
+ *   === Fire Loot ===
+ *   ...
+ *
+ * displayInfo() on every enemy delegates to print(), so both always match.
+ */
+public class TextEnemyRenderer implements EnemyRenderer {
+
+    private static final ThreadLocal<TextEnemyRenderer> CONSOLE =
+            ThreadLocal.withInitial(() -> new TextEnemyRenderer(System.lineSeparator()));
+
+    private static final ClassValue<String> THEMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String name = type.getSimpleName();
+            return name.endsWith("LootTable") ? name.substring(0, name.length() - "LootTable".length()) : name;
+        }
+    };
+
+    private final String newline;
+    private final StringBuilder scratch = new StringBuilder(16);
+    private final StringBuilder console = new StringBuilder(512);
+
+    /** Renderer using "\n" line breaks. */
+    public TextEnemyRenderer() {
+        this("\n");
+    }
+
+    public TextEnemyRenderer(String newline) {
+        if (newline == null) {
+            throw new IllegalArgumentException("Line separator cannot be null!");
+        }
+        this.newline = newline;
+    }
+
+    // ============================================
+    // CONSOLE HELPERS (used by displayInfo)
+    // ============================================
+
+    /**
+     * Print one enemy to System.out in a single write.
+     */
+    public static void print(Enemy enemy) {
+        CONSOLE.get().printToConsole(enemy, null, null);
+    }
+
+    /**
+     * Print an enemy with a custom header label and an optional element line.
+     */
+    public static void print(Enemy enemy, String label, String element) {
+        CONSOLE.get().printToConsole(enemy, label, element);
+    }
+
+    /**
+     * @return The getLootInfo() text of a loot table
+     */
+    public static String lootInfo(LootTable lootTable) {
+        StringBuilder sb = new StringBuilder(96);
+        try {
+            new TextEnemyRenderer().renderLoot(lootTable, sb, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+        return sb.toString();
+    }
+
+    private void printToConsole(Enemy enemy, String label, String element) {
+        console.setLength(0);
+        try {
+            if (label == null) {
+                render(enemy, console);
+            } else {
+                renderBasic(enemy, label, element, console);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.print(console);
+        if (console.capacity() > 64 * 1024) {
+            console.setLength(0);
+            console.trimToSize(); // don't pin a huge buffer after one big enemy
+        }
+    }
+
+    // ============================================
+    // RENDERING
+    // ============================================
+
+    @Override
+    public void render(Enemy enemy, Appendable out) throws IOException {
+        if (enemy instanceof DragonBoss) {
+            renderBoss((DragonBoss) enemy, out);
+        } else if (enemy instanceof Goblin) {
+            renderBasic(enemy, "Goblin", null, out);
+        } else if (enemy instanceof Skeleton) {
+            renderBasic(enemy, "Skeleton", null, out);
+        } else {
+            renderBasic(enemy, enemy.getClass().getSimpleName(), null, out);
+        }
+    }
+
+    /**
+     * Layout shared by simple enemies: header, stats, optional element,
+     * abilities, loot (or "Loot: None").
+     */
+    public void renderBasic(Enemy enemy, String label, String element, Appendable out) throws IOException {
+        renderHeader(enemy, label, out);
+        if (element != null) {
+            out.append("Element: ").append(element).append(newline);
+        }
+        renderAbilities(enemy, out);
+        LootTable lootTable = enemy.getLootTable();
+        if (lootTable != null) {
+            renderLoot(lootTable, out, true);
+        } else {
+            out.append("Loot: None").append(newline);
+        }
+    }
+
+    private void renderBoss(DragonBoss boss, Appendable out) throws IOException {
+        renderHeader(boss, "Dragon Boss", out);
+        out.append("Element: ").append(boss.getElement().name()).append(newline);
+        renderAbilities(boss, out);
+        PhaseTable phases = boss.getPhaseTable();
+        out.append("Boss Phases: ");
+        appendInt(phases.size(), out);
+        out.append(newline);
+        for (int i = 0; i < phases.size(); i++) {
+            out.append("  Phase ");
+            appendInt(phases.phaseNumberAt(i), out);
+            out.append(": triggers at ");
+            appendInt(phases.thresholdAt(i), out);
+            out.append(" HP").append(newline);
+        }
+        out.append("AI Behavior: ").append(boss.getAIBehavior().name()).append(newline);
+        out.append("Can Fly: ").append(boss.canFly() ? "true" : "false")
+                .append(" | Breath Attack: ").append(boss.hasBreathAttack() ? "true" : "false")
+                .append(" | Wingspan: ");
+        appendInt(boss.getWingspan(), out);
+        out.append(newline);
+        LootTable lootTable = boss.getLootTable();
+        if (lootTable != null) {
+            renderLoot(lootTable, out, true);
+        }
+    }
+
+    private void renderHeader(Enemy enemy, String label, Appendable out) throws IOException {
+        out.append("=== ").append(enemy.getName()).append(" (").append(label).append(") ===").append(newline);
+        out.append("Health: ");
+        appendInt(enemy.getHealth(), out);
+        out.append(" | Damage: ");
+        appendInt(enemy.getDamage(), out);
+        out.append(" | Defense: ");
+        appendInt(enemy.getDefense(), out);
+        out.append(" | Speed: ");
+        appendInt(enemy.getSpeed(), out);
+        out.append(newline);
+    }
+
+    private void renderAbilities(Enemy enemy, Appendable out) throws IOException {
+        int count = enemy.abilityCount();
+        out.append("Abilities (");
+        appendInt(count, out);
+        out.append("):").append(newline);
+        for (int i = 0; i < count; i++) {
+            Ability ability = enemy.abilityAt(i);
+            out.append("  - ").append(ability.getName()).append(": ").append(ability.getDescription()).append(newline);
+        }
+    }
+
+    /**
+     * @param trailingNewline false for getLootInfo(), which has no final line break
+     */
+    private void renderLoot(LootTable lootTable, Appendable out, boolean trailingNewline) throws IOException {
+        out.append("=== ").append(themeOf(lootTable)).append(" Loot ===").append(newline);
+        out.append("Items: [");
+        for (int i = 0; i < lootTable.itemCount(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(lootTable.itemAt(i));
+        }
+        out.append(']').append(newline);
+        out.append("Gold: ");
+        appendInt(lootTable.getGoldDrop(), out);
+        out.append(newline);
+        out.append("Experience: ");
+        appendInt(lootTable.getExperienceDrop(), out);
+        if (trailingNewline) {
+            out.append(newline);
+        }
+    }
+
+    /**
+     * "FireLootTable" -> "Fire", computed once per class.
+     */
+    static String themeOf(LootTable lootTable) {
+        if (lootTable instanceof ThemedLootTable) {
+            return ((ThemedLootTable) lootTable).getTheme();
+        }
+        return THEMES.get(lootTable.getClass());
+    }
+
+    private void appendInt(int value, Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+            return;
+        }
+        scratch.setLength(0);
+        scratch.append(value);
+        out.append(scratch);
+    }
+}
@@ -0,0 +1,66 @@
+package com.narxoz.rpg.runtime;
+
+import com.narxoz.rpg.combat.FightResult;
+
+import java.util.List;
+
+/**
+ * Result of one encounter run by the EncounterRuntime.
+ */
+public final class EncounterOutcome {
+
+    public enum Status {
+        /** Every party finished its fight. */
+        COMPLETED,
+        /** The encounter hit its timeout; unfinished fights were cancelled. */
+        TIMED_OUT,
+        /** A party subtask threw; the other parties were cancelled. */
+        FAILED
+    }
+
+    private final String name;
+    private final Status status;
+    private final List<FightResult> partyResults;
+    private final long durationNanos;
+    private final Throwable failure;
+
+    EncounterOutcome(String name, Status status, List<FightResult> partyResults, long durationNanos, Throwable failure) {
+        this.name = name;
+        this.status = status;
+        this.partyResults = partyResults;
+        this.durationNanos = durationNanos;
+        this.failure = failure;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return One result per party (empty unless COMPLETED)
+     */
+    public List<FightResult> getPartyResults() {
+        return partyResults;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return The subtask failure (FAILED only), otherwise null
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EncounterOutcome [%s: %s in %.1f ms, %s]",
+                name, status, durationNanos / 1e6, partyResults);
+    }
+}
@@ -0,0 +1,218 @@
+package com.narxoz.rpg.runtime;
+
+import com.narxoz.rpg.combat.CombatSimulator;
+import com.narxoz.rpg.combat.Encounter;
+import com.narxoz.rpg.combat.FightResult;
+import com.narxoz.rpg.combat.Party;
+import com.narxoz.rpg.combat.SplitMix64;
+import com.narxoz.rpg.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many independent encounters concurrently, one thread per encounter
+ * and one per party subtask.
+ *
+ * Threads:
+ *   On Java 21+ every encounter and party subtask runs on a VIRTUAL thread,
+ *   so 100k encounters that mostly wait for their next tick cost little
+ *   more than their heap. On older JVMs (the project baseline is Java 17)
+ *   it falls back to platform threads, which only scales to a few thousand
+ *   concurrent encounters. usesVirtualThreads() tells which one you got.
+ *
+ * Per encounter:
+ *   - Admission is bounded: submit() blocks while maxConcurrent encounters
+ *     are running, trySubmit() refuses instead.
+ *   - Each party fights in its own subtask inside an EncounterScope; one
+ *     failing party cancels the others.
+ *   - Fights advance one combat round per tick, paced by tickInterval.
+ *     Tick latency (how late a tick finished versus its schedule) is
+ *     recorded in a shared histogram.
+ *   - The whole encounter must finish within the timeout, otherwise its
+ *     fights are cancelled and it completes as TIMED_OUT.
+ *
+ * Usage:
+ *   try (EncounterRuntime runtime = new EncounterRuntime(100_000,
+ *           Duration.ofSeconds(30), Duration.ofMillis(50))) {
+ *       CompletableFuture<EncounterOutcome> outcome = runtime.submit(spec);
+ *       ...
+ *       System.out.println(runtime.tickLatency());
+ *   }
+ */
+public class EncounterRuntime implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final Semaphore admission;
+    private final long timeoutNanos;
+    private final long tickIntervalNanos;
+    private final LatencyHistogram tickLatency = new LatencyHistogram();
+    private final AtomicInteger active = new AtomicInteger();
+
+    public EncounterRuntime(int maxConcurrent, Duration timeout, Duration tickInterval) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Max concurrent encounters must be positive!");
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive!");
+        }
+        if (tickInterval == null || tickInterval.isNegative()) {
+            throw new IllegalArgumentException("Tick interval cannot be negative!");
+        }
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "encounter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.admission = new Semaphore(maxConcurrent);
+        this.timeoutNanos = timeout.toNanos();
+        this.tickIntervalNanos = tickInterval.toNanos();
+    }
+
+    /**
+     * Start an encounter, waiting for a free admission slot if needed.
+     */
+    public CompletableFuture<EncounterOutcome> submit(EncounterSpec spec) throws InterruptedException {
+        admission.acquire();
+        return start(spec);
+    }
+
+    /**
+     * Start an encounter only if an admission slot is free right now.
+     *
+     * @return The running encounter, or null if the runtime is full
+     */
+    public CompletableFuture<EncounterOutcome> trySubmit(EncounterSpec spec) {
+        return admission.tryAcquire() ? start(spec) : null;
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return Number of encounters currently running
+     */
+    public int activeEncounters() {
+        return active.get();
+    }
+
+    /**
+     * @return Lateness of every tick versus its schedule, across all encounters
+     */
+    public LatencyHistogram tickLatency() {
+        return tickLatency;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<EncounterOutcome> start(EncounterSpec spec) {
+        CompletableFuture<EncounterOutcome> outcome = new CompletableFuture<>();
+        active.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    outcome.complete(run(spec));
+                } catch (Throwable t) {
+                    outcome.completeExceptionally(t);
+                } finally {
+                    active.decrementAndGet();
+                    admission.release();
+                }
+            });
+        } catch (RuntimeException rejected) {
+            active.decrementAndGet();
+            admission.release();
+            throw rejected;
+        }
+        return outcome;
+    }
+
+    private EncounterOutcome run(EncounterSpec spec) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + timeoutNanos;
+        List<Party> parties = spec.getParties();
+        try (EncounterScope<FightResult> scope = new EncounterScope<>(executor)) {
+            for (int i = 0; i < parties.size(); i++) {
+                Party party = parties.get(i);
+                long seed = SplitMix64.seedFor(spec.getSeed(), i);
+                scope.fork(() -> fight(spec, party, seed, deadline));
+            }
+            List<FightResult> results = scope.join(deadline);
+            return new EncounterOutcome(spec.getName(), EncounterOutcome.Status.COMPLETED,
+                    Collections.unmodifiableList(new ArrayList<>(results)), System.nanoTime() - start, null);
+        } catch (TimeoutException e) {
+            return new EncounterOutcome(spec.getName(), EncounterOutcome.Status.TIMED_OUT,
+                    Collections.emptyList(), System.nanoTime() - start, null);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                return new EncounterOutcome(spec.getName(), EncounterOutcome.Status.TIMED_OUT,
+                        Collections.emptyList(), System.nanoTime() - start, null);
+            }
+            return new EncounterOutcome(spec.getName(), EncounterOutcome.Status.FAILED,
+                    Collections.emptyList(), System.nanoTime() - start, e.getCause());
+        }
+    }
+
+    /**
+     * One party's subtask: spawn its enemies, then play one round per tick.
+     */
+    private FightResult fight(EncounterSpec spec, Party party, long seed, long deadline)
+            throws InterruptedException, TimeoutException {
+        Encounter encounter = new Encounter(party, spec.getEnemySource().get());
+        CombatSimulator simulator = new CombatSimulator();
+        simulator.begin(encounter, seed);
+        long scheduled = System.nanoTime();
+        boolean running = true;
+        while (running) {
+            running = simulator.tick();
+            tickLatency.record(System.nanoTime() - scheduled);
+            if (!running) {
+                break;
+            }
+            scheduled += tickIntervalNanos;
+            if (scheduled > deadline) {
+                throw new TimeoutException("Encounter '" + spec.getName() + "' ran out of time");
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } else if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return simulator.finish(new FightResult());
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() when the JVM has it (Java 21+).
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.narxoz.rpg.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Minimal structured-concurrency scope for the subtasks of one encounter.
+ *
+ * Subtasks forked in a scope never outlive it: join() waits for all of
+ * them in completion order, so the first failure (whichever subtask it
+ * comes from) or a missed deadline cancels the rest at once, and
+ * close() cancels anything still running. Mirrors the shape of
+ * StructuredTaskScope.ShutdownOnFailure, which is not available on the
+ * Java 17 baseline this project targets.
+ *
+ * Usage:
+ *   try (EncounterScope<FightResult> scope = new EncounterScope<>(executor)) {
+ *       for (Party party : parties) {
+ *           scope.fork(() -> fight(party));
+ *       }
+ *       List<FightResult> results = scope.join(deadlineNanos);
+ *   }
+ */
+final class EncounterScope<T> implements AutoCloseable {
+
+    private final CompletionService<T> completions;
+    private final List<Future<T>> subtasks = new ArrayList<>();
+    private final Map<Future<T>, Integer> forkIndex = new IdentityHashMap<>();
+
+    EncounterScope(ExecutorService executor) {
+        this.completions = new ExecutorCompletionService<>(executor);
+    }
+
+    void fork(Callable<T> subtask) {
+        Future<T> future = completions.submit(subtask);
+        forkIndex.put(future, subtasks.size());
+        subtasks.add(future);
+    }
+
+    /**
+     * Wait for every subtask, taking each as soon as it completes.
+     *
+     * @param deadlineNanos System.nanoTime() value by which all must finish
+     * @return Subtask results, in fork order
+     * @throws ExecutionException the first subtask failure (others are cancelled)
+     * @throws TimeoutException if the deadline passed (all subtasks are cancelled)
+     */
+    List<T> join(long deadlineNanos) throws InterruptedException, ExecutionException, TimeoutException {
+        @SuppressWarnings("unchecked")
+        T[] results = (T[]) new Object[subtasks.size()];
+        try {
+            for (int done = 0; done < results.length; done++) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<T> completed = completions.poll(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                if (completed == null) {
+                    throw new TimeoutException("Encounter subtasks missed their deadline!");
+                }
+                results[forkIndex.get(completed)] = completed.get();
+            }
+            return Arrays.asList(results);
+        } catch (ExecutionException | TimeoutException | CancellationException | InterruptedException e) {
+            cancelAll();
+            throw e;
+        }
+    }
+
+    private void cancelAll() {
+        for (Future<T> subtask : subtasks) {
+            subtask.cancel(true);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+}
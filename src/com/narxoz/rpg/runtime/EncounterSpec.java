@@ -0,0 +1,58 @@
+package com.narxoz.rpg.runtime;
+
+import com.narxoz.rpg.combat.Party;
+import com.narxoz.rpg.enemy.Enemy;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Description of one encounter for the EncounterRuntime.
+ *
+ * Every party fights its own group of enemies, produced by the enemy
+ * source (e.g., a registry bulk spawn or an EnemyDirector preset). The
+ * source is called once per party, from that party's subtask, so it must
+ * be safe to call from several threads (EnemyRegistry, EnemyDirector and
+ * EnemyBlueprint all are).
+ *
+ * Usage:
+ *   EncounterSpec spec = new EncounterSpec("Goblin Camp", List.of(partyA, partyB),
+ *       () -> registry.createFromTemplate("goblin", 5), 42L);
+ */
+public final class EncounterSpec {
+
+    private final String name;
+    private final List<Party> parties;
+    private final Supplier<? extends List<? extends Enemy>> enemySource;
+    private final long seed;
+
+    public EncounterSpec(String name, List<Party> parties,
+                         Supplier<? extends List<? extends Enemy>> enemySource, long seed) {
+        if (parties == null || parties.isEmpty()) {
+            throw new IllegalArgumentException("Encounter needs at least one party!");
+        }
+        if (enemySource == null) {
+            throw new IllegalArgumentException("Enemy source cannot be null!");
+        }
+        this.name = name;
+        this.parties = List.copyOf(parties);
+        this.enemySource = enemySource;
+        this.seed = seed;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Party> getParties() {
+        return parties;
+    }
+
+    public Supplier<? extends List<? extends Enemy>> getEnemySource() {
+        return enemySource;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}